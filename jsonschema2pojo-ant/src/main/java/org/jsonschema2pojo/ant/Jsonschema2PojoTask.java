@@ -137,6 +137,42 @@ public class Jsonschema2PojoTask extends Task implements GenerationConfig {
 
     private String dateType = null;
 
+    private int parallelism = 1;
+
+    private boolean incremental = false;
+
+    private boolean writeOnlyChangedFiles = false;
+
+    private int maxCachedDocuments = 0;
+
+    private File httpCacheDirectory = null;
+
+    private boolean offline = false;
+
+    private int httpTimeout = 0;
+
+    private boolean prefetchReferences = false;
+
+    private int exampleArraySampleSize = 0;
+
+    private boolean inferExampleFormats = false;
+
+    private int maxExampleEnumValues = 0;
+
+    private boolean useFieldwiseHashcodeAndEquals = false;
+
+    private boolean useFieldwiseToString = false;
+
+    private boolean useEnumSwitchLookup = false;
+
+    private boolean useIndexedDynamicAccessors = false;
+
+    private boolean useLazyAdditionalProperties = false;
+
+    private boolean useLazyCollectionDefaults = false;
+
+    private boolean useStaticDefaultConstants = false;
+
 
     /**
      * Execute this task (it's expected that all relevant setters will have been
@@ -639,6 +675,299 @@ public class Jsonschema2PojoTask extends Task implements GenerationConfig {
         this.includeDynamicAccessors = includeDynamicAccessors;
     }
 
+    /**
+     * Sets the 'parallelism' property of this class
+     *
+     * @param parallelism
+     *            The number of worker threads that should be used to read and
+     *            parse source documents concurrently before types are
+     *            generated.
+     *            <p>
+     *            Default: <code>1</code> (sequential).
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Sets the 'incremental' property of this class
+     *
+     * @param incremental
+     *            Whether to skip generation when nothing has changed since the
+     *            last run. A manifest holding a hash of every document read
+     *            (including documents referenced using $ref), the effective
+     *            configuration and the generator version is written to the
+     *            target directory, and later runs do nothing if all of these
+     *            are unchanged.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Sets the 'writeOnlyChangedFiles' property of this class
+     *
+     * @param writeOnlyChangedFiles
+     *            Whether to write only those generated files whose content
+     *            differs from the file already in the target directory, so that
+     *            unchanged files keep their modification time and are not
+     *            recompiled. When combined with removeOldOutput, files that are
+     *            no longer generated are removed after generation, instead of
+     *            clearing the target directory beforehand.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setWriteOnlyChangedFiles(boolean writeOnlyChangedFiles) {
+        this.writeOnlyChangedFiles = writeOnlyChangedFiles;
+    }
+
+    /**
+     * Sets the 'maxCachedDocuments' property of this class
+     *
+     * @param maxCachedDocuments
+     *            The maximum number of schema documents whose parsed content is
+     *            held in memory during generation. When more documents have
+     *            been read, the content of the oldest documents whose types
+     *            have all been generated is released (and read again if
+     *            needed). A value of 0 means no limit.
+     *            <p>
+     *            Default: <code>0</code>.
+     */
+    public void setMaxCachedDocuments(int maxCachedDocuments) {
+        this.maxCachedDocuments = maxCachedDocuments;
+    }
+
+    /**
+     * Sets the 'httpCacheDirectory' property of this class
+     *
+     * @param httpCacheDirectory
+     *            The directory in which documents read using http or https (for
+     *            instance, using $ref) are cached between runs. A cached
+     *            document is revalidated using its ETag or Last-Modified date,
+     *            so it is only downloaded again if it has changed. When not
+     *            set, remote documents are not cached.
+     *            <p>
+     *            Default: <code>null</code>.
+     */
+    public void setHttpCacheDirectory(File httpCacheDirectory) {
+        this.httpCacheDirectory = httpCacheDirectory;
+    }
+
+    /**
+     * Sets the 'offline' property of this class
+     *
+     * @param offline
+     *            Whether documents that would be read using http or https must
+     *            instead be taken from the httpCacheDirectory. When enabled, no
+     *            network requests are made and generation fails if a remote
+     *            document has not been cached.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    /**
+     * Sets the 'httpTimeout' property of this class
+     *
+     * @param httpTimeout
+     *            The timeout, in milliseconds, for connecting to a server and
+     *            for reading a document using http or https. A value of 0 means
+     *            that no timeout is applied.
+     *            <p>
+     *            Default: <code>0</code>.
+     */
+    public void setHttpTimeout(int httpTimeout) {
+        this.httpTimeout = httpTimeout;
+    }
+
+    /**
+     * Sets the 'prefetchReferences' property of this class
+     *
+     * @param prefetchReferences
+     *            Whether every document referenced (directly or indirectly) by
+     *            the source schemas, using $ref or extends, should be read and
+     *            parsed before types are generated. Documents are read
+     *            concurrently, using the number of threads given by the
+     *            parallelism option, so that file and network latency don't add
+     *            up while types are generated.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setPrefetchReferences(boolean prefetchReferences) {
+        this.prefetchReferences = prefetchReferences;
+    }
+
+    /**
+     * Sets the 'exampleArraySampleSize' property of this class
+     *
+     * @param exampleArraySampleSize
+     *            The number of items of each array in a JSON example
+     *            (sourceType json) that are always used to infer the type of
+     *            its items. Later items are used with decreasing probability,
+     *            as in reservoir sampling, so that very large arrays are not
+     *            read in full. A value of zero or less means every item is
+     *            used.
+     *            <p>
+     *            Default: <code>0</code>.
+     */
+    public void setExampleArraySampleSize(int exampleArraySampleSize) {
+        this.exampleArraySampleSize = exampleArraySampleSize;
+    }
+
+    /**
+     * Sets the 'inferExampleFormats' property of this class
+     *
+     * @param inferExampleFormats
+     *            Whether string properties of JSON examples (sourceType json)
+     *            whose values all look like a date-time, date, uuid or absolute
+     *            uri should be given the matching format, so that a narrower
+     *            Java type is generated.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setInferExampleFormats(boolean inferExampleFormats) {
+        this.inferExampleFormats = inferExampleFormats;
+    }
+
+    /**
+     * Sets the 'maxExampleEnumValues' property of this class
+     *
+     * @param maxExampleEnumValues
+     *            The largest number of distinct values a string property of
+     *            JSON examples (sourceType json) may have for it to be
+     *            generated as an enum. Values must also repeat, each being seen
+     *            at least twice on average. Zero disables enum inference.
+     *            <p>
+     *            Default: <code>0</code>.
+     */
+    public void setMaxExampleEnumValues(int maxExampleEnumValues) {
+        this.maxExampleEnumValues = maxExampleEnumValues;
+    }
+
+    /**
+     * Sets the 'useFieldwiseHashcodeAndEquals' property of this class
+     *
+     * @param useFieldwiseHashcodeAndEquals
+     *            Whether generated hashCode and equals methods (see
+     *            includeHashcodeAndEquals) should compare and hash each field
+     *            directly instead of using the commons-lang HashCodeBuilder and
+     *            EqualsBuilder, so that no helper objects are allocated and no
+     *            primitives are boxed. Hash codes are the same as those
+     *            produced by HashCodeBuilder.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseFieldwiseHashcodeAndEquals(boolean useFieldwiseHashcodeAndEquals) {
+        this.useFieldwiseHashcodeAndEquals = useFieldwiseHashcodeAndEquals;
+    }
+
+    /**
+     * Sets the 'useFieldwiseToString' property of this class
+     *
+     * @param useFieldwiseToString
+     *            Whether generated toString methods should append each field to
+     *            a StringBuilder directly, instead of calling
+     *            ToStringBuilder.reflectionToString. The output has the same
+     *            format, but no reflection is needed when toString is called.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseFieldwiseToString(boolean useFieldwiseToString) {
+        this.useFieldwiseToString = useFieldwiseToString;
+    }
+
+    /**
+     * Sets the 'useEnumSwitchLookup' property of this class
+     *
+     * @param useEnumSwitchLookup
+     *            Whether generated enums should look up constants using a
+     *            switch on the hash code of the value (or, for very large
+     *            enums, a map that is only created on first use) instead of a
+     *            map that is filled when the enum is loaded. A tryFromValue
+     *            method, which returns null instead of throwing
+     *            IllegalArgumentException for an unknown value, is also
+     *            generated.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseEnumSwitchLookup(boolean useEnumSwitchLookup) {
+        this.useEnumSwitchLookup = useEnumSwitchLookup;
+    }
+
+    /**
+     * Sets the 'useIndexedDynamicAccessors' property of this class
+     *
+     * @param useIndexedDynamicAccessors
+     *            Whether dynamic accessors should be backed by a property
+     *            index: each class numbers every property it declares or
+     *            inherits, and gets propertyIndex, propertyName, getByIndex,
+     *            setByIndex and forEachProperty methods. Lookups by name then
+     *            take the same time at any depth of inheritance. Only used when
+     *            includeDynamicAccessors and includeAccessors are both true.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseIndexedDynamicAccessors(boolean useIndexedDynamicAccessors) {
+        this.useIndexedDynamicAccessors = useIndexedDynamicAccessors;
+    }
+
+    /**
+     * Sets the 'useLazyAdditionalProperties' property of this class
+     *
+     * @param useLazyAdditionalProperties
+     *            Whether the map that holds additional properties should be
+     *            created lazily. Until a property is added,
+     *            getAdditionalProperties returns a shared, empty (read-only)
+     *            map; a single property is held in a singleton map, and a
+     *            HashMap is only created for the second. The map returned by
+     *            getAdditionalProperties should be treated as read-only; use
+     *            setAdditionalProperty to add properties.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseLazyAdditionalProperties(boolean useLazyAdditionalProperties) {
+        this.useLazyAdditionalProperties = useLazyAdditionalProperties;
+    }
+
+    /**
+     * Sets the 'useLazyCollectionDefaults' property of this class
+     *
+     * @param useLazyCollectionDefaults
+     *            Whether List and Set properties should start out referring to
+     *            a shared default (an empty collection, or a static copy of the
+     *            schema default) that is only copied into a new collection by
+     *            the property's getter, instead of allocating a collection for
+     *            every new instance. Only used when includeAccessors is true
+     *            and parcelable is false. As getters then assign the field,
+     *            they are no longer safe to call concurrently on a shared
+     *            instance.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseLazyCollectionDefaults(boolean useLazyCollectionDefaults) {
+        this.useLazyCollectionDefaults = useLazyCollectionDefaults;
+    }
+
+    /**
+     * Sets the 'useStaticDefaultConstants' property of this class
+     *
+     * @param useStaticDefaultConstants
+     *            Whether schema defaults of immutable types (BigDecimal, URI,
+     *            Pattern, boxed numbers, enums and Joda date/time types) should
+     *            be created once, in a private static final constant, and
+     *            assigned to each new instance by reference. Mutable defaults
+     *            such as java.util.Date are still created per instance.
+     *            <p>
+     *            Default: <code>false</code>.
+     */
+    public void setUseStaticDefaultConstants(boolean useStaticDefaultConstants) {
+        this.useStaticDefaultConstants = useStaticDefaultConstants;
+    }
+
     @Override
     public boolean isGenerateBuilders() {
         return generateBuilders;
@@ -860,4 +1189,94 @@ public class Jsonschema2PojoTask extends Task implements GenerationConfig {
     public boolean isUseBigDecimals() {
         return useBigDecimals;
     }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public boolean isWriteOnlyChangedFiles() {
+        return writeOnlyChangedFiles;
+    }
+
+    @Override
+    public int getMaxCachedDocuments() {
+        return maxCachedDocuments;
+    }
+
+    @Override
+    public File getHttpCacheDirectory() {
+        return httpCacheDirectory;
+    }
+
+    @Override
+    public boolean isOffline() {
+        return offline;
+    }
+
+    @Override
+    public int getHttpTimeout() {
+        return httpTimeout;
+    }
+
+    @Override
+    public boolean isPrefetchReferences() {
+        return prefetchReferences;
+    }
+
+    @Override
+    public int getExampleArraySampleSize() {
+        return exampleArraySampleSize;
+    }
+
+    @Override
+    public boolean isInferExampleFormats() {
+        return inferExampleFormats;
+    }
+
+    @Override
+    public int getMaxExampleEnumValues() {
+        return maxExampleEnumValues;
+    }
+
+    @Override
+    public boolean isUseFieldwiseHashcodeAndEquals() {
+        return useFieldwiseHashcodeAndEquals;
+    }
+
+    @Override
+    public boolean isUseFieldwiseToString() {
+        return useFieldwiseToString;
+    }
+
+    @Override
+    public boolean isUseEnumSwitchLookup() {
+        return useEnumSwitchLookup;
+    }
+
+    @Override
+    public boolean isUseIndexedDynamicAccessors() {
+        return useIndexedDynamicAccessors;
+    }
+
+    @Override
+    public boolean isUseLazyAdditionalProperties() {
+        return useLazyAdditionalProperties;
+    }
+
+    @Override
+    public boolean isUseLazyCollectionDefaults() {
+        return useLazyCollectionDefaults;
+    }
+
+    @Override
+    public boolean isUseStaticDefaultConstants() {
+        return useStaticDefaultConstants;
+    }
 }
@@ -0,0 +1,82 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the number of bytes allocated (by all threads) for each schema
+ * processed, using the "size" parameter of the benchmark as the number of
+ * schemas processed by each invocation.
+ * <p>
+ * Use with: <code>-prof org.jsonschema2pojo.benchmarks.AllocationPerSchemaProfiler</code>
+ */
+public class AllocationPerSchemaProfiler implements InternalProfiler {
+
+    private long allocatedBytesBefore;
+
+    @Override
+    public String getDescription() {
+        return "Bytes allocated per schema processed";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        allocatedBytesBefore = allocatedBytes();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams, IterationResult result) {
+        long allocatedBytesAfter = allocatedBytes();
+        long allocated = allocatedBytesAfter - allocatedBytesBefore;
+        long schemas = result.getMetadata().getAllOps() * Long.parseLong(benchmarkParams.getParam("size"));
+
+        // threads that finished during the iteration take their counts with them
+        if (allocatedBytesBefore < 0 || allocated < 0 || schemas == 0) {
+            return Collections.emptyList();
+        }
+
+        return Collections.singletonList(new ScalarResult("alloc.bytes.per.schema", (double) allocated / schemas, "B/schema", AggregationPolicy.AVG));
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+
+        long total = 0;
+        for (long allocated : ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+        return total;
+    }
+
+}
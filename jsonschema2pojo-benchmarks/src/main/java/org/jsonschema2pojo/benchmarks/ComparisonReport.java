@@ -0,0 +1,132 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import static org.apache.commons.lang3.StringUtils.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Prints a Markdown table of JMH results (written with
+ * <code>-rf json -rff results.json</code>), optionally comparing them with the
+ * results of an earlier run so they can be tracked across releases.
+ * <p>
+ * Usage: <code>ComparisonReport results.json [baseline.json]</code>
+ */
+public class ComparisonReport {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    public static void main(String... args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: ComparisonReport results.json [baseline.json]");
+            System.exit(1);
+        }
+
+        Map<String, JsonNode> results = read(new File(args[0]));
+        Map<String, JsonNode> baseline = args.length > 1 ? read(new File(args[1])) : null;
+
+        print(results, baseline, System.out);
+    }
+
+    static void print(Map<String, JsonNode> results, Map<String, JsonNode> baseline, PrintStream out) {
+        if (baseline == null) {
+            out.println("| Benchmark | Parameters | Score | Allocation |");
+            out.println("|---|---|---:|---:|");
+        } else {
+            out.println("| Benchmark | Parameters | Score | Baseline | Change | Allocation | Baseline allocation |");
+            out.println("|---|---|---:|---:|---:|---:|---:|");
+        }
+
+        for (Map.Entry<String, JsonNode> result : results.entrySet()) {
+            JsonNode current = result.getValue();
+            StringBuilder row = new StringBuilder("| ")
+                    .append(substringAfterLast(current.path("benchmark").asText(), ".")).append(" | ")
+                    .append(parameters(current)).append(" | ")
+                    .append(score(current.path("primaryMetric"))).append(" | ");
+
+            if (baseline == null) {
+                row.append(score(allocation(current))).append(" |");
+            } else {
+                JsonNode previous = baseline.get(result.getKey());
+                row.append(previous == null ? "" : score(previous.path("primaryMetric"))).append(" | ")
+                        .append(previous == null ? "" : change(current.path("primaryMetric"), previous.path("primaryMetric"))).append(" | ")
+                        .append(score(allocation(current))).append(" | ")
+                        .append(previous == null ? "" : score(allocation(previous))).append(" |");
+            }
+
+            out.println(row);
+        }
+    }
+
+    /**
+     * Reads JMH results, keyed by benchmark name and parameter values.
+     */
+    static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<String, JsonNode>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            results.put(result.path("benchmark").asText() + " " + parameters(result), result);
+        }
+        return results;
+    }
+
+    private static String parameters(JsonNode result) {
+        StringBuilder parameters = new StringBuilder();
+        for (Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields(); params.hasNext();) {
+            Map.Entry<String, JsonNode> param = params.next();
+            if (parameters.length() > 0) {
+                parameters.append(", ");
+            }
+            parameters.append(param.getKey()).append('=').append(param.getValue().asText());
+        }
+        return parameters.toString();
+    }
+
+    private static JsonNode allocation(JsonNode result) {
+        for (Iterator<Map.Entry<String, JsonNode>> metrics = result.path("secondaryMetrics").fields(); metrics.hasNext();) {
+            Map.Entry<String, JsonNode> metric = metrics.next();
+            if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                return metric.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String score(JsonNode metric) {
+        if (metric == null || metric.isMissingNode()) {
+            return "";
+        }
+        return String.format("%.3f %s", metric.path("score").asDouble(), metric.path("scoreUnit").asText());
+    }
+
+    private static String change(JsonNode current, JsonNode previous) {
+        double previousScore = previous.path("score").asDouble();
+        if (previousScore == 0) {
+            return "";
+        }
+        return String.format("%+.1f%%", (current.path("score").asDouble() - previousScore) * 100 / previousScore);
+    }
+
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * The schema corpus that a benchmark runs against, created once for each
+ * combination of parameters.
+ *
+ * @see SchemaCorpus#create(int, double, int, int)
+ */
+@State(Scope.Benchmark)
+public class CorpusState {
+
+    @Param({ "100", "1000" })
+    public int size;
+
+    @Param({ "0.0", "0.3" })
+    public double refDensity;
+
+    @Param({ "2" })
+    public int depth;
+
+    @Param({ "0", "20" })
+    public int enumWidth;
+
+    public SchemaCorpus corpus;
+
+    @Setup(Level.Trial)
+    public void createCorpus() throws IOException {
+        corpus = SchemaCorpus.create(size, refDensity, depth, enumWidth);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCorpus() throws IOException {
+        corpus.delete();
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsonschema2pojo.FragmentResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Resolves the fragment paths of every property (including the nested ones)
+ * of every document of the corpus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FragmentResolverBenchmark {
+
+    private final FragmentResolver fragmentResolver = new FragmentResolver("UTF-8");
+
+    private List<String> paths;
+
+    @Setup(Level.Trial)
+    public void createPaths(CorpusState state) {
+        paths = new ArrayList<String>();
+        paths.add("#/definitions/shared");
+        paths.add("#/definitions/shared/properties/id");
+
+        String nested = "#";
+        for (int level = 0; level < state.depth; level++) {
+            nested += "/properties/nested" + level;
+            paths.add(nested);
+        }
+
+        // every document of the corpus has the same structure
+        ObjectNode document = state.corpus.getDocuments().get(0);
+        for (Iterator<String> properties = document.get("properties").fieldNames(); properties.hasNext();) {
+            paths.add("#/properties/" + properties.next());
+        }
+    }
+
+    @Benchmark
+    public void resolve(CorpusState state, SchemaCounter counter, Blackhole blackhole) {
+        for (ObjectNode document : state.corpus.getDocuments()) {
+            for (String path : paths) {
+                blackhole.consume(fragmentResolver.resolve(document, path));
+            }
+            counter.schemas++;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.jsonschema2pojo.DefaultGenerationConfig;
+import org.jsonschema2pojo.Jackson2Annotator;
+import org.jsonschema2pojo.SchemaGenerator;
+import org.jsonschema2pojo.SchemaMapper;
+import org.jsonschema2pojo.rules.RuleFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.codemodel.JCodeModel;
+
+/**
+ * Applies the generation rules (starting from the object rule of each
+ * document) to every document of the corpus, building a new code model
+ * without writing it out.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Benchmark
+    public JCodeModel generate(CorpusState state, SchemaCounter counter) throws IOException {
+        return generate(state.corpus, counter);
+    }
+
+    static JCodeModel generate(SchemaCorpus corpus, SchemaCounter counter) throws IOException {
+        SchemaMapper mapper = new SchemaMapper(new RuleFactory(new DefaultGenerationConfig(), new Jackson2Annotator()), new SchemaGenerator());
+        JCodeModel codeModel = new JCodeModel();
+
+        int index = 0;
+        for (URL url : corpus.getUrls()) {
+            mapper.generate(codeModel, "Schema" + index++, "com.example", url);
+            if (counter != null) {
+                counter.schemas++;
+            }
+        }
+
+        return codeModel;
+    }
+
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jsonschema2pojo.DefaultGenerationConfig;
+import org.jsonschema2pojo.util.NameHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JType;
+
+/**
+ * Derives the field, getter and setter names for every property of every
+ * document of the corpus.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameHelperBenchmark {
+
+    private final NameHelper nameHelper = new NameHelper(new DefaultGenerationConfig());
+
+    private final JType type = new JCodeModel().ref(String.class);
+
+    @Benchmark
+    public void propertyNames(CorpusState state, SchemaCounter counter, Blackhole blackhole) {
+        for (ObjectNode document : state.corpus.getDocuments()) {
+            for (Iterator<Map.Entry<String, JsonNode>> properties = document.get("properties").fields(); properties.hasNext();) {
+                Map.Entry<String, JsonNode> property = properties.next();
+                blackhole.consume(nameHelper.getPropertyName(property.getKey(), property.getValue()));
+                blackhole.consume(nameHelper.getGetterName(property.getKey(), type, property.getValue()));
+                blackhole.consume(nameHelper.getSetterName(property.getKey(), property.getValue()));
+            }
+            counter.schemas++;
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A synthetic set of schema documents, written to a temporary directory.
+ * <p>
+ * Each document describes an object with a fixed number of properties. A
+ * share of these properties (the ref density) refer to another document in
+ * the corpus, the rest have simple types. Every document also has a chain of
+ * nested inline objects, a property that refers to a definition in the same
+ * document and (optionally) an enum property. The corpus is the same for the
+ * same parameters, so results can be compared between runs.
+ */
+public class SchemaCorpus {
+
+    static final int PROPERTIES_PER_SCHEMA = 10;
+
+    private static final String[] SIMPLE_TYPES = { "string", "integer", "number", "boolean" };
+
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private final File directory;
+    private final List<ObjectNode> documents;
+    private final List<URL> urls;
+
+    private SchemaCorpus(File directory, List<ObjectNode> documents, List<URL> urls) {
+        this.directory = directory;
+        this.documents = documents;
+        this.urls = urls;
+    }
+
+    /**
+     * Creates a corpus of schema documents.
+     *
+     * @param size
+     *            the number of documents
+     * @param refDensity
+     *            the share (from 0 to 1) of each document's properties that
+     *            refer to another document
+     * @param depth
+     *            the number of nested inline objects in each document
+     * @param enumWidth
+     *            the number of values of each document's enum property, or 0
+     *            for no enum property
+     */
+    public static SchemaCorpus create(int size, double refDensity, int depth, int enumWidth) throws IOException {
+        File directory = File.createTempFile("jsonschema2pojo-benchmarks", "");
+        if (!directory.delete() || !directory.mkdir()) {
+            throw new IOException("Unable to create directory " + directory);
+        }
+
+        Random random = new Random(size);
+        ObjectMapper mapper = new ObjectMapper();
+
+        List<ObjectNode> documents = new ArrayList<ObjectNode>(size);
+        List<URL> urls = new ArrayList<URL>(size);
+        for (int i = 0; i < size; i++) {
+            ObjectNode document = createDocument(i, size, refDensity, depth, enumWidth, random);
+            File file = new File(directory, documentName(i));
+            mapper.writerWithDefaultPrettyPrinter().writeValue(file, document);
+            documents.add(document);
+            urls.add(file.toURI().toURL());
+        }
+
+        return new SchemaCorpus(directory, Collections.unmodifiableList(documents), Collections.unmodifiableList(urls));
+    }
+
+    private static ObjectNode createDocument(int index, int size, double refDensity, int depth, int enumWidth, Random random) {
+        ObjectNode document = objectSchema();
+        document.put("title", "Synthetic schema " + index);
+        document.put("description", "A generated schema used to benchmark jsonschema2pojo");
+
+        ObjectNode properties = (ObjectNode) document.get("properties");
+        for (int i = 0; i < PROPERTIES_PER_SCHEMA; i++) {
+            String name = i % 2 == 0 ? "property-" + i : "property_" + i + "Value";
+            if (size > 1 && random.nextDouble() < refDensity) {
+                int referenced = (index + 1 + random.nextInt(size - 1)) % size;
+                properties.putObject(name).put("$ref", documentName(referenced));
+            } else if (i % 5 == 4) {
+                ObjectNode array = properties.putObject(name);
+                array.put("type", "array");
+                array.putObject("items").put("type", SIMPLE_TYPES[i % SIMPLE_TYPES.length]);
+            } else {
+                ObjectNode simple = properties.putObject(name);
+                simple.put("type", SIMPLE_TYPES[i % SIMPLE_TYPES.length]);
+                simple.put("description", "Property " + i);
+            }
+        }
+
+        ObjectNode nested = document;
+        for (int level = 0; level < depth; level++) {
+            ObjectNode child = objectSchema();
+            ((ObjectNode) child.get("properties")).putObject("level").put("type", "integer");
+            ((ObjectNode) nested.get("properties")).set("nested" + level, child);
+            nested = child;
+        }
+
+        if (enumWidth > 0) {
+            ObjectNode enumProperty = properties.putObject("status");
+            enumProperty.put("type", "string");
+            ArrayNode values = enumProperty.putArray("enum");
+            for (int i = 0; i < enumWidth; i++) {
+                values.add("status-" + i);
+            }
+        }
+
+        ObjectNode shared = objectSchema();
+        ((ObjectNode) shared.get("properties")).putObject("id").put("type", "string");
+        document.putObject("definitions").set("shared", shared);
+        properties.putObject("shared").put("$ref", "#/definitions/shared");
+
+        return document;
+    }
+
+    private static ObjectNode objectSchema() {
+        ObjectNode schema = NODE_FACTORY.objectNode();
+        schema.put("type", "object");
+        schema.putObject("properties");
+        return schema;
+    }
+
+    static String documentName(int index) {
+        return "schema" + index + ".json";
+    }
+
+    /**
+     * @return the parsed content of each document, in the same order as
+     *         {@link #getUrls()}
+     */
+    public List<ObjectNode> getDocuments() {
+        return documents;
+    }
+
+    public List<URL> getUrls() {
+        return urls;
+    }
+
+    public int size() {
+        return urls.size();
+    }
+
+    public void delete() throws IOException {
+        FileUtils.deleteDirectory(directory);
+    }
+
+}
@@ -0,0 +1,68 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jsonschema2pojo.DefaultGenerationConfig;
+import org.jsonschema2pojo.Schema;
+import org.jsonschema2pojo.SchemaStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Reads every document of the corpus into a new {@link SchemaStore} and
+ * resolves every <code>$ref</code> found in the properties of each document.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaStoreBenchmark {
+
+    @Benchmark
+    public void readAndResolve(CorpusState state, SchemaCounter counter, Blackhole blackhole) throws URISyntaxException {
+        SchemaStore schemaStore = new SchemaStore(new DefaultGenerationConfig());
+
+        for (URL url : state.corpus.getUrls()) {
+            Schema schema = schemaStore.create(url.toURI());
+
+            for (Iterator<Map.Entry<String, JsonNode>> properties = schema.getContent().get("properties").fields(); properties.hasNext();) {
+                JsonNode ref = properties.next().getValue().get("$ref");
+                if (ref != null) {
+                    blackhole.consume(schemaStore.create(schema, ref.asText()));
+                }
+            }
+
+            counter.schemas++;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.jsonschema2pojo.FileCodeWriterWithEncoding;
+import org.jsonschema2pojo.ParallelFileCodeWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.codemodel.CodeWriter;
+import com.sun.codemodel.JCodeModel;
+
+/**
+ * Writes out the code model generated for the corpus (the
+ * <code>codeModel.build</code> phase) to a temporary directory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WriteBenchmark {
+
+    @Param({ "1", "4" })
+    public int parallelism;
+
+    private JCodeModel codeModel;
+
+    private File outputDirectory;
+
+    @Setup(Level.Trial)
+    public void generate(CorpusState state) throws IOException {
+        codeModel = GenerationBenchmark.generate(state.corpus, null);
+        outputDirectory = File.createTempFile("jsonschema2pojo-benchmarks", "-output");
+        FileUtils.forceDelete(outputDirectory);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() throws IOException {
+        FileUtils.deleteDirectory(outputDirectory);
+    }
+
+    @Benchmark
+    public void write(CorpusState state, SchemaCounter counter) throws IOException {
+        FileUtils.forceMkdir(outputDirectory);
+
+        CodeWriter sourcesWriter = parallelism > 1
+                ? new ParallelFileCodeWriter(outputDirectory, "UTF-8", parallelism)
+                : new FileCodeWriterWithEncoding(outputDirectory, "UTF-8");
+        CodeWriter resourcesWriter = new FileCodeWriterWithEncoding(outputDirectory, "UTF-8");
+        codeModel.build(sourcesWriter, resourcesWriter);
+
+        counter.schemas += state.size;
+    }
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks.runtime;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.squareup.moshi.JsonAdapter;
+import com.squareup.moshi.Moshi;
+
+/**
+ * Reads and writes instances of a generated type using the JSON library that
+ * matches the annotation style the type was generated with.
+ */
+abstract class JsonBinding {
+
+    abstract Object read(String json) throws IOException;
+
+    abstract String write(Object value) throws IOException;
+
+    /**
+     * @param config
+     *            the name of the configuration the type was generated with,
+     *            which starts with the name of its annotation style
+     */
+    static JsonBinding forConfig(String config, Class<?> type) {
+        if (config.startsWith("jackson2")) {
+            return new Jackson2Binding(type);
+        } else if (config.startsWith("gson")) {
+            return new GsonBinding(type);
+        } else if (config.startsWith("moshi1")) {
+            return new Moshi1Binding(type);
+        }
+        throw new IllegalArgumentException("No JSON library for configuration: " + config);
+    }
+
+    private static class Jackson2Binding extends JsonBinding {
+
+        private final ObjectMapper mapper = new ObjectMapper();
+        private final Class<?> type;
+
+        Jackson2Binding(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        Object read(String json) throws IOException {
+            return mapper.readValue(json, type);
+        }
+
+        @Override
+        String write(Object value) throws IOException {
+            return mapper.writeValueAsString(value);
+        }
+
+    }
+
+    private static class GsonBinding extends JsonBinding {
+
+        private final Gson gson = new Gson();
+        private final Class<?> type;
+
+        GsonBinding(Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        Object read(String json) {
+            return gson.fromJson(json, type);
+        }
+
+        @Override
+        String write(Object value) {
+            return gson.toJson(value);
+        }
+
+    }
+
+    private static class Moshi1Binding extends JsonBinding {
+
+        private final JsonAdapter<Object> adapter;
+
+        @SuppressWarnings("unchecked")
+        Moshi1Binding(Class<?> type) {
+            this.adapter = (JsonAdapter<Object>) new Moshi.Builder().build().adapter(type);
+        }
+
+        @Override
+        Object read(String json) throws IOException {
+            return adapter.fromJson(json);
+        }
+
+        @Override
+        String write(Object value) {
+            return adapter.toJson(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.benchmarks.runtime;
+
+import static org.apache.commons.lang3.StringUtils.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the runtime cost of generated types, for each configuration they
+ * are generated with (see the executions of jsonschema2pojo-maven-plugin in
+ * this module's pom).
+ * <p>
+ * Each configuration is generated into its own package, named after the
+ * configuration, so the same type can be compared across configurations.
+ * Run with <code>-prof gc</code> to also measure allocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PojoRuntimeBenchmark {
+
+    private static final String GENERATED_PACKAGE = "org.jsonschema2pojo.benchmarks.runtime";
+
+    @Param({ "jackson2", "jackson2primitives", "jackson2noadditionalproperties", "jackson2dynamicaccessors",
+            "gson", "gsonprimitives", "moshi1", "moshi1primitives" })
+    public String config;
+
+    @Param({ "Order", "Address", "TypeWithEnumProperty" })
+    public String type;
+
+    private JsonBinding binding;
+
+    private String json;
+
+    private Object instance;
+
+    private Object equalInstance;
+
+    @Setup(Level.Trial)
+    public void readInstances() throws ClassNotFoundException, IOException {
+        Class<?> generatedType = Class.forName(GENERATED_PACKAGE + "." + config + "." + type);
+
+        binding = JsonBinding.forConfig(config, generatedType);
+        json = IOUtils.toString(getClass().getResource("/data/" + uncapitalize(type) + ".json"), "UTF-8");
+        instance = binding.read(json);
+        equalInstance = binding.read(json);
+
+        if (!instance.equals(equalInstance)) {
+            throw new IllegalStateException("Instances read from the same JSON aren't equal: " + instance + ", " + equalInstance);
+        }
+    }
+
+    @Benchmark
+    public String serialize() throws IOException {
+        return binding.write(instance);
+    }
+
+    @Benchmark
+    public Object deserialize() throws IOException {
+        return binding.read(json);
+    }
+
+    @Benchmark
+    public void equalsAndHashCode(Blackhole blackhole) {
+        blackhole.consume(instance.equals(equalInstance));
+        blackhole.consume(instance.hashCode());
+    }
+
+    @Benchmark
+    public String toStringOfInstance() {
+        return instance.toString();
+    }
+
+}
@@ -156,6 +156,60 @@ public class Arguments implements GenerationConfig {
     @Parameter(names = { "-ida", "--include-dynamic-accessors" }, description = "Include dynamic getter, setter, and builder support on generated types.")
     private boolean includeDynamicAccessors = false;
 
+    @Parameter(names = { "-pa", "--parallelism" }, description = "The number of worker threads used to read and parse source documents concurrently before types are generated.")
+    private int parallelism = 1;
+
+    @Parameter(names = { "-inc", "--incremental" }, description = "Skip generation when no source document, referenced document or configuration option has changed since the last run.")
+    private boolean incremental = false;
+
+    @Parameter(names = { "-woc", "--write-only-changed-files" }, description = "Only write generated files whose content has changed, leaving identical files (and their modification times) untouched. Combined with --remove-old-output, files that are no longer generated are removed after generation instead of clearing the target directory first.")
+    private boolean writeOnlyChangedFiles = false;
+
+    @Parameter(names = { "-mcd", "--max-cached-documents" }, description = "The maximum number of schema documents whose parsed content is held in memory. Content of documents whose types are already generated is released (oldest first) when this is exceeded. 0 means no limit.")
+    private int maxCachedDocuments = 0;
+
+    @Parameter(names = { "-hc", "--http-cache-directory" }, description = "A directory in which documents read using http or https are cached between runs (they are only downloaded again if they have changed).")
+    private File httpCacheDirectory = null;
+
+    @Parameter(names = { "-off", "--offline" }, description = "Read remote (http/https) documents from the http cache directory only, never from the network.")
+    private boolean offline = false;
+
+    @Parameter(names = { "-ht", "--http-timeout" }, description = "The timeout in milliseconds for connecting to a server and reading a document using http or https (0 means no timeout).")
+    private int httpTimeout = 0;
+
+    @Parameter(names = { "-pf", "--prefetch-references" }, description = "Read all documents referenced by the source schemas ($ref and extends, followed transitively) concurrently before generating types. Uses the number of threads given by --parallelism.")
+    private boolean prefetchReferences = false;
+
+    @Parameter(names = { "-eas", "--example-array-sample-size" }, description = "When inferring types from JSON examples, the number of items of each array that are always used. Later items are sampled with decreasing probability. Zero (the default) uses every item.")
+    private int exampleArraySampleSize = 0;
+
+    @Parameter(names = { "-ief", "--infer-example-formats" }, description = "When inferring types from JSON examples, give strings whose values all look like a date-time, date, uuid or uri the matching format.")
+    private boolean inferExampleFormats = false;
+
+    @Parameter(names = { "-mev", "--max-example-enum-values" }, description = "When inferring types from JSON examples, the largest number of distinct, repeated values a string may have to become an enum. Zero (the default) disables enums.")
+    private int maxExampleEnumValues = 0;
+
+    @Parameter(names = { "-fhe", "--fieldwise-hashcode-equals" }, description = "Generate hashCode and equals methods that compare and hash each field directly, without allocating commons-lang builders.")
+    private boolean useFieldwiseHashcodeAndEquals = false;
+
+    @Parameter(names = { "-fts", "--fieldwise-to-string" }, description = "Generate toString methods that append each field to a StringBuilder directly, instead of using ToStringBuilder.reflectionToString. The output format is unchanged.")
+    private boolean useFieldwiseToString = false;
+
+    @Parameter(names = { "-esl", "--enum-switch-lookup" }, description = "Look up enum constants with a switch on the hash code of the value (or a lazily created map for very large enums) instead of a map filled when the enum is loaded, and add a tryFromValue method that returns null for unknown values.")
+    private boolean useEnumSwitchLookup = false;
+
+    @Parameter(names = { "-idx", "--indexed-dynamic-accessors" }, description = "Back dynamic accessors with a property index (adds propertyIndex, propertyName, getByIndex, setByIndex and forEachProperty methods), so lookups by name don't walk the class hierarchy. Requires --include-dynamic-accessors.")
+    private boolean useIndexedDynamicAccessors = false;
+
+    @Parameter(names = { "-lap", "--lazy-additional-properties" }, description = "Create the additional properties map lazily: an empty shared map until the first property is added, then a singleton map, and a HashMap only from the second property on. The map returned by getAdditionalProperties should be treated as read-only.")
+    private boolean useLazyAdditionalProperties = false;
+
+    @Parameter(names = { "-lcd", "--lazy-collection-defaults" }, description = "Start List and Set properties out as a shared default that is only copied into a new collection by the getter, instead of allocating a collection for every instance. Requires accessors. Getters are then not safe to call concurrently on a shared instance.")
+    private boolean useLazyCollectionDefaults = false;
+
+    @Parameter(names = { "-sdc", "--static-default-constants" }, description = "Create defaults of immutable types (BigDecimal, URI, Pattern, boxed numbers, enums, Joda types) once in static constants instead of once per instance.")
+    private boolean useStaticDefaultConstants = false;
+
     private static final int EXIT_OKAY = 0;
     private static final int EXIT_ERROR = 1;
 
@@ -383,4 +437,94 @@ public class Arguments implements GenerationConfig {
     public boolean isUseBigDecimals() {
         return useBigDecimals;
     }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public boolean isWriteOnlyChangedFiles() {
+        return writeOnlyChangedFiles;
+    }
+
+    @Override
+    public int getMaxCachedDocuments() {
+        return maxCachedDocuments;
+    }
+
+    @Override
+    public File getHttpCacheDirectory() {
+        return httpCacheDirectory;
+    }
+
+    @Override
+    public boolean isOffline() {
+        return offline;
+    }
+
+    @Override
+    public int getHttpTimeout() {
+        return httpTimeout;
+    }
+
+    @Override
+    public boolean isPrefetchReferences() {
+        return prefetchReferences;
+    }
+
+    @Override
+    public int getExampleArraySampleSize() {
+        return exampleArraySampleSize;
+    }
+
+    @Override
+    public boolean isInferExampleFormats() {
+        return inferExampleFormats;
+    }
+
+    @Override
+    public int getMaxExampleEnumValues() {
+        return maxExampleEnumValues;
+    }
+
+    @Override
+    public boolean isUseFieldwiseHashcodeAndEquals() {
+        return useFieldwiseHashcodeAndEquals;
+    }
+
+    @Override
+    public boolean isUseFieldwiseToString() {
+        return useFieldwiseToString;
+    }
+
+    @Override
+    public boolean isUseEnumSwitchLookup() {
+        return useEnumSwitchLookup;
+    }
+
+    @Override
+    public boolean isUseIndexedDynamicAccessors() {
+        return useIndexedDynamicAccessors;
+    }
+
+    @Override
+    public boolean isUseLazyAdditionalProperties() {
+        return useLazyAdditionalProperties;
+    }
+
+    @Override
+    public boolean isUseLazyCollectionDefaults() {
+        return useLazyCollectionDefaults;
+    }
+
+    @Override
+    public boolean isUseStaticDefaultConstants() {
+        return useStaticDefaultConstants;
+    }
 }
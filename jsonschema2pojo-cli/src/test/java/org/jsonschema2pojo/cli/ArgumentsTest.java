@@ -51,7 +51,8 @@ public class ArgumentsTest {
     public void parseRecognisesValidArguments() {
         ArgsForTest args = (ArgsForTest) new ArgsForTest().parse(new String[] {
                 "--source", "/home/source", "--target", "/home/target", "--package", "mypackage",
-                "--generate-builders", "--use-primitives", "--omit-hashcode-and-equals", "--omit-tostring", "--include-dynamic-accessors"
+                "--generate-builders", "--use-primitives", "--omit-hashcode-and-equals", "--omit-tostring", "--include-dynamic-accessors",
+                "--parallelism", "4"
         });
 
         assertThat(args.didExit(), is(false));
@@ -63,6 +64,7 @@ public class ArgumentsTest {
         assertThat(args.isIncludeHashcodeAndEquals(), is(false));
         assertThat(args.isIncludeToString(), is(false));
         assertThat(args.isIncludeDynamicAccessors(), is(true));
+        assertThat(args.getParallelism(), is(4));
     }
 
     @Test
@@ -106,6 +108,7 @@ public class ArgumentsTest {
         assertThat(args.isIncludeHashcodeAndEquals(), is(true));
         assertThat(args.isIncludeToString(), is(true));
         assertThat(args.isIncludeDynamicAccessors(), is(false));
+        assertThat(args.getParallelism(), is(1));
     }
 
     @Test
@@ -0,0 +1,238 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.jsonschema2pojo.exception.GenerationException;
+
+/**
+ * Fetches remote documents using {@link HttpURLConnection}, optionally keeping
+ * a copy of each document in a cache directory.
+ * <p>
+ * A cached document is revalidated on every fetch (using the ETag and
+ * Last-Modified headers sent by the server when it was downloaded), so its
+ * content is only downloaded again if it has changed. In offline mode, cached
+ * documents are used without revalidation and no requests are made at all.
+ * <p>
+ * Response bodies are always read to the end and closed, so that the
+ * underlying connections can be kept alive and reused for later requests to
+ * the same server.
+ */
+public class CachingHttpFetcher implements HttpFetcher {
+
+    private static final String URI_KEY = "uri";
+    private static final String ETAG_KEY = "etag";
+    private static final String LAST_MODIFIED_KEY = "lastModified";
+
+    private final File cacheDirectory;
+    private final boolean offline;
+    private final int timeout;
+
+    /**
+     * Creates a new fetcher.
+     *
+     * @param cacheDirectory
+     *            the directory in which fetched documents are cached, or
+     *            <code>null</code> if documents should not be cached
+     * @param offline
+     *            whether documents should be read from the cache only
+     * @param timeout
+     *            the connect and read timeout in milliseconds (<code>0</code>
+     *            for no timeout)
+     */
+    public CachingHttpFetcher(File cacheDirectory, boolean offline, int timeout) {
+        this.cacheDirectory = cacheDirectory;
+        this.offline = offline;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public byte[] fetch(URI uri) throws IOException {
+        CacheEntry cached = readCacheEntry(uri);
+
+        if (offline) {
+            if (cached == null) {
+                throw new IOException("Working offline, and no copy of " + uri + " has been cached"
+                        + (cacheDirectory != null ? " in " + cacheDirectory.getAbsolutePath() : " (no http cache directory is configured)"));
+            }
+            return cached.content;
+        }
+
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setConnectTimeout(timeout);
+        connection.setReadTimeout(timeout);
+        connection.setRequestProperty("Accept", "application/schema+json, application/json, */*;q=0.5");
+        if (cached != null && cached.etag != null) {
+            connection.setRequestProperty("If-None-Match", cached.etag);
+        }
+        if (cached != null && cached.lastModified != null) {
+            connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+        }
+
+        int responseCode = connection.getResponseCode();
+
+        if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+            discard(connection.getInputStream());
+            return cached.content;
+        }
+
+        if (responseCode >= HttpURLConnection.HTTP_BAD_REQUEST) {
+            discard(connection.getErrorStream());
+            throw new IOException("Server returned HTTP response code: " + responseCode + " for URL: " + uri);
+        }
+
+        InputStream in = connection.getInputStream();
+        byte[] content;
+        try {
+            content = IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+
+        writeCacheEntry(uri, content, connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"));
+
+        return content;
+    }
+
+    private CacheEntry readCacheEntry(URI uri) throws IOException {
+        if (cacheDirectory == null) {
+            return null;
+        }
+
+        String key = key(uri);
+        File contentFile = new File(cacheDirectory, key + ".json");
+        File metadataFile = new File(cacheDirectory, key + ".properties");
+        if (!contentFile.isFile() || !metadataFile.isFile()) {
+            return null;
+        }
+
+        Properties metadata = new Properties();
+        InputStream in = new FileInputStream(metadataFile);
+        try {
+            metadata.load(in);
+        } finally {
+            in.close();
+        }
+
+        if (!uri.toString().equals(metadata.getProperty(URI_KEY))) {
+            return null;
+        }
+
+        return new CacheEntry(FileUtils.readFileToByteArray(contentFile), metadata.getProperty(ETAG_KEY), metadata.getProperty(LAST_MODIFIED_KEY));
+    }
+
+    private void writeCacheEntry(URI uri, byte[] content, String etag, String lastModified) throws IOException {
+        if (cacheDirectory == null) {
+            return;
+        }
+        if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs() && !cacheDirectory.isDirectory()) {
+            throw new IOException("Could not create http cache directory " + cacheDirectory.getAbsolutePath());
+        }
+
+        Properties metadata = new Properties();
+        metadata.setProperty(URI_KEY, uri.toString());
+        if (etag != null) {
+            metadata.setProperty(ETAG_KEY, etag);
+        }
+        if (lastModified != null) {
+            metadata.setProperty(LAST_MODIFIED_KEY, lastModified);
+        }
+
+        // the metadata is removed first and replaced last, so that a partly
+        // written entry is never used
+        String key = key(uri);
+        File metadataFile = new File(cacheDirectory, key + ".properties");
+        FileUtils.deleteQuietly(metadataFile);
+
+        File contentFile = new File(cacheDirectory, key + ".json");
+        File temporaryContentFile = File.createTempFile(key, ".json.tmp", cacheDirectory);
+        FileUtils.writeByteArrayToFile(temporaryContentFile, content);
+        replace(temporaryContentFile, contentFile);
+
+        File temporaryMetadataFile = File.createTempFile(key, ".properties.tmp", cacheDirectory);
+        OutputStream out = new FileOutputStream(temporaryMetadataFile);
+        try {
+            metadata.store(out, null);
+        } finally {
+            out.close();
+        }
+        replace(temporaryMetadataFile, metadataFile);
+    }
+
+    private static void replace(File source, File target) throws IOException {
+        if (!source.renameTo(target)) {
+            FileUtils.deleteQuietly(target);
+            if (!source.renameTo(target)) {
+                FileUtils.deleteQuietly(source);
+                throw new IOException("Could not write " + target.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of the given stream and closes it, so that the
+     * connection it belongs to can be reused.
+     */
+    private static void discard(InputStream in) throws IOException {
+        if (in != null) {
+            try {
+                IOUtils.skip(in, Long.MAX_VALUE);
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    private static String key(URI uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(uri.toString().getBytes(StandardCharsets.UTF_8));
+            return String.format("%040x", new BigInteger(1, digest));
+        } catch (NoSuchAlgorithmException e) {
+            throw new GenerationException("SHA-1 is not available", e);
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final byte[] content;
+        private final String etag;
+        private final String lastModified;
+
+        CacheEntry(byte[] content, String etag, String lastModified) {
+            this.content = content;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+    }
+
+}
@@ -37,9 +37,43 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 public class ContentResolver {
 
     private static final Set<String> CLASSPATH_SCHEMES = new HashSet<String>(asList("classpath", "resource", "java"));
+    private static final Set<String> HTTP_SCHEMES = new HashSet<String>(asList("http", "https"));
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
         .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
 
+    private final HttpFetcher httpFetcher;
+
+    /**
+     * Create a new resolver that reads remote documents directly from the
+     * network (with no cache and no timeout).
+     */
+    public ContentResolver() {
+        this(new CachingHttpFetcher(null, false, 0));
+    }
+
+    /**
+     * Create a new resolver that reads remote documents according to the http
+     * options of the given configuration (cache directory, offline mode and
+     * timeout).
+     * 
+     * @param config
+     *            the configuration options that apply to remote documents
+     */
+    public ContentResolver(GenerationConfig config) {
+        this(new CachingHttpFetcher(config.getHttpCacheDirectory(), config.isOffline(), config.getHttpTimeout()));
+    }
+
+    /**
+     * Create a new resolver that reads remote documents using the given
+     * fetcher.
+     * 
+     * @param httpFetcher
+     *            the fetcher used for http and https URIs
+     */
+    public ContentResolver(HttpFetcher httpFetcher) {
+        this.httpFetcher = httpFetcher;
+    }
+
     /**
      * Resolve a given URI to read its contents and parse the result as JSON.
      * <p>
@@ -61,6 +95,10 @@ public class ContentResolver {
             return resolveFromClasspath(uri);
         }
 
+        if (HTTP_SCHEMES.contains(uri.getScheme())) {
+            return resolveFromHttp(uri);
+        }
+
         try {
             return OBJECT_MAPPER.readTree(uri.toURL());
         } catch (JsonProcessingException e) {
@@ -73,6 +111,17 @@ public class ContentResolver {
 
     }
 
+    private JsonNode resolveFromHttp(URI uri) {
+
+        try {
+            return OBJECT_MAPPER.readTree(httpFetcher.fetch(uri));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Error parsing document: " + uri, e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read document: " + uri, e);
+        }
+    }
+
     private JsonNode resolveFromClasspath(URI uri) {
 
         String path = removeStart(removeStart(uri.toString(), uri.getScheme() + ":"), "/");
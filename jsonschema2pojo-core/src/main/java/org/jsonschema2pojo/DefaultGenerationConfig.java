@@ -304,4 +304,148 @@ public class DefaultGenerationConfig implements GenerationConfig {
     public String getTimeType() {
         return null;
     }
+
+    /**
+     * @return <code>1</code>
+     */
+    @Override
+    public int getParallelism() {
+        return 1;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isIncremental() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isWriteOnlyChangedFiles() {
+        return false;
+    }
+
+    /**
+     * @return <code>0</code>
+     */
+    @Override
+    public int getMaxCachedDocuments() {
+        return 0;
+    }
+
+    /**
+     * @return <code>null</code>
+     */
+    @Override
+    public File getHttpCacheDirectory() {
+        return null;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isOffline() {
+        return false;
+    }
+
+    /**
+     * @return <code>0</code>
+     */
+    @Override
+    public int getHttpTimeout() {
+        return 0;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isPrefetchReferences() {
+        return false;
+    }
+
+    /**
+     * @return <code>0</code>
+     */
+    @Override
+    public int getExampleArraySampleSize() {
+        return 0;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isInferExampleFormats() {
+        return false;
+    }
+
+    /**
+     * @return <code>0</code>
+     */
+    @Override
+    public int getMaxExampleEnumValues() {
+        return 0;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseFieldwiseHashcodeAndEquals() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseFieldwiseToString() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseEnumSwitchLookup() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseIndexedDynamicAccessors() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseLazyAdditionalProperties() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseLazyCollectionDefaults() {
+        return false;
+    }
+
+    /**
+     * @return <code>false</code>
+     */
+    @Override
+    public boolean isUseStaticDefaultConstants() {
+        return false;
+    }
 }
@@ -0,0 +1,184 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static java.util.Arrays.*;
+import static org.apache.commons.lang3.StringUtils.*;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jsonschema2pojo.exception.GenerationException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Reads documents into a {@link SchemaStore} using a pool of worker threads,
+ * so that the store already holds them when type generation begins.
+ * <p>
+ * Documents that can't be read are skipped here. If such a document is
+ * needed during generation, the store attempts to read it again and the
+ * error is reported then.
+ */
+final class DocumentPrefetcher {
+
+    private static final Set<String> REFERENCE_KEYWORDS = new HashSet<String>(asList("$ref", "extends"));
+
+    private final SchemaStore schemaStore;
+    private final int parallelism;
+
+    DocumentPrefetcher(SchemaStore schemaStore, int parallelism) {
+        this.schemaStore = schemaStore;
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    /**
+     * Reads the given documents concurrently.
+     *
+     * @param documentIds
+     *            the URIs (without fragment) of the documents to read
+     * @param followReferences
+     *            whether every document referenced by these documents (using
+     *            <code>$ref</code> or <code>extends</code>, transitively)
+     *            should also be read
+     */
+    void prefetch(Collection<URI> documentIds, boolean followReferences) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        CompletionService<JsonNode> completionService = new ExecutorCompletionService<JsonNode>(executor);
+
+        Map<Future<JsonNode>, URI> pending = new HashMap<Future<JsonNode>, URI>();
+        Set<URI> seen = new HashSet<URI>();
+
+        try {
+            for (URI documentId : documentIds) {
+                if (seen.add(documentId)) {
+                    pending.put(completionService.submit(read(documentId)), documentId);
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                Future<JsonNode> read = completionService.take();
+                URI documentId = pending.remove(read);
+
+                JsonNode content;
+                try {
+                    content = read.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Error) {
+                        throw (Error) e.getCause();
+                    }
+                    continue;
+                }
+
+                if (followReferences && content != null) {
+                    for (URI reference : findReferences(documentId, content)) {
+                        if (seen.add(reference)) {
+                            pending.put(completionService.submit(read(reference)), reference);
+                        }
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenerationException("Interrupted while reading schemas", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<JsonNode> read(final URI documentId) {
+        return new Callable<JsonNode>() {
+            @Override
+            public JsonNode call() {
+                return schemaStore.getDocument(documentId);
+            }
+        };
+    }
+
+    /**
+     * Finds the (other) documents referenced anywhere in the given content.
+     */
+    static Set<URI> findReferences(URI documentId, JsonNode content) {
+        Set<URI> references = new HashSet<URI>();
+
+        Deque<JsonNode> nodes = new ArrayDeque<JsonNode>();
+        nodes.push(content);
+
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.pop();
+
+            if (node.isObject()) {
+                for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    if (field.getValue().isTextual() && REFERENCE_KEYWORDS.contains(field.getKey())) {
+                        URI reference = resolveReference(documentId, field.getValue().asText());
+                        if (reference != null) {
+                            references.add(reference);
+                        }
+                    } else if (field.getValue().isContainerNode()) {
+                        nodes.push(field.getValue());
+                    }
+                }
+            } else {
+                for (JsonNode element : node) {
+                    if (element.isContainerNode()) {
+                        nodes.push(element);
+                    }
+                }
+            }
+        }
+
+        references.remove(documentId);
+        return references;
+    }
+
+    /**
+     * Resolves the document part of a reference in the same way as
+     * {@link SchemaStore#create(Schema, String)}.
+     *
+     * @return the URI of the referenced document, or <code>null</code> if the
+     *         reference is to the same document or can't be resolved
+     */
+    private static URI resolveReference(URI documentId, String reference) {
+        String path = stripEnd(substringBefore(reference, "#"), "?&/");
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        try {
+            URI referencedId = documentId.resolve(path);
+            return referencedId.isAbsolute() ? referencedId : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
@@ -33,30 +33,56 @@ import com.sun.codemodel.util.UnicodeEscapeWriter;
  */
 public class FileCodeWriterWithEncoding extends com.sun.codemodel.writer.FileCodeWriter {
 
+    protected final Charset charset;
+
+    private final boolean unicodeCharset;
+
+    private CharsetEncoder encoder;
+
     public FileCodeWriterWithEncoding(File target, String encoding) throws IOException {
         super(target, encoding);
+        this.charset = Charset.forName(encoding);
+        this.unicodeCharset = charset.name().startsWith("UTF-");
     }
 
     @Override
     public Writer openSource(JPackage pkg, String fileName) throws IOException {
-        final Writer bw = new OutputStreamWriter(openBinary(pkg, fileName), encoding);
-
-        return new UnicodeEscapeWriter(bw) {
-            private final CharsetEncoder encoder = Charset.forName(encoding).newEncoder();
+        return escapingWriter(new OutputStreamWriter(openBinary(pkg, fileName), charset));
+    }
 
+    /**
+     * Wraps the given writer so that any character that can't be represented
+     * in the output encoding is written as a unicode escape sequence.
+     * <p>
+     * Sources are rendered one at a time, so a single encoder is shared by all
+     * the writers created by this code writer (and is only ever needed for
+     * non-ASCII characters when the output encoding is not a unicode one).
+     */
+    protected Writer escapingWriter(Writer out) {
+        return new UnicodeEscapeWriter(out) {
             @Override
             protected boolean requireEscaping(int ch) {
-                // control characters
-                if (ch < 0x20 && " \t\r\n".indexOf(ch) == -1) {
-                    return true;
-                }
                 // ASCII chars
-                if (ch < 0x80) {
+                if (ch >= 0x20 && ch < 0x80) {
                     return false;
                 }
-                return !encoder.canEncode((char) ch);
+                // control characters
+                if (ch < 0x20) {
+                    return " \t\r\n".indexOf(ch) == -1;
+                }
+                return !canEncode((char) ch);
             }
         };
     }
 
+    private boolean canEncode(char ch) {
+        if (unicodeCharset && !Character.isSurrogate(ch)) {
+            return true;
+        }
+        if (encoder == null) {
+            encoder = charset.newEncoder();
+        }
+        return encoder.canEncode(ch);
+    }
+
 }
@@ -16,59 +16,105 @@
 
 package org.jsonschema2pojo;
 
-import static java.util.Arrays.*;
 import static org.apache.commons.lang3.StringUtils.*;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import android.util.Log;
 import com.fasterxml.jackson.databind.JsonNode;
 
+/**
+ * Resolves fragment paths (like <code>#/definitions/address</code>) against
+ * the content of a document.
+ * <p>
+ * Each distinct path is split and decoded only once. The resulting compiled
+ * path is cached by this resolver, so resolving a path that has been seen
+ * before walks the tree without any allocation.
+ */
 public class FragmentResolver {
 
     protected final String encoding;
 
+    private final ConcurrentMap<String, CompiledPath> compiledPaths = new ConcurrentHashMap<String, CompiledPath>();
+
     public FragmentResolver(String encoding) {
         this.encoding = encoding;
     }
 
     public JsonNode resolve(JsonNode tree, String path) {
 
-        return resolve(tree, new ArrayList<String>(asList(split(path, "#/."))));
+        CompiledPath compiledPath = compiledPaths.get(path);
+
+        if (compiledPath == null) {
+            compiledPath = new CompiledPath(split(path, "#/."));
+            CompiledPath existing = compiledPaths.putIfAbsent(path, compiledPath);
+            if (existing != null) {
+                compiledPath = existing;
+            }
+        }
+
+        return compiledPath.resolve(tree);
 
     }
 
-    private JsonNode resolve(JsonNode tree, List<String> path) {
-
-        if (path.isEmpty()) {
-            return tree;
-        } else {
-            String part = path.remove(0);
-            try {
-                part = URLDecoder.decode(part, encoding);
-            } catch (UnsupportedEncodingException e) {
-                Log.e("FragmentResolver", "Could not decode path part from encoding " + encoding);
-                e.printStackTrace();
-            }
+    /**
+     * A path that has been split into decoded parts, with the parts that are
+     * valid array indexes already parsed.
+     */
+    private class CompiledPath {
+
+        private final String[] parts;
+        private final int[] indexes;
+        private final boolean[] validIndexes;
+
+        CompiledPath(String[] parts) {
+            this.parts = parts;
+            this.indexes = new int[parts.length];
+            this.validIndexes = new boolean[parts.length];
 
-            if (tree.isArray()) {
+            for (int i = 0; i < parts.length; i++) {
                 try {
-                    int index = Integer.parseInt(part);
-                    return resolve(tree.get(index), path);
+                    parts[i] = URLDecoder.decode(parts[i], encoding);
+                } catch (UnsupportedEncodingException e) {
+                    Log.e("FragmentResolver", "Could not decode path part from encoding " + encoding);
+                    e.printStackTrace();
+                }
+
+                try {
+                    indexes[i] = Integer.parseInt(parts[i]);
+                    validIndexes[i] = true;
                 } catch (NumberFormatException e) {
-                    throw new IllegalArgumentException("Not a valid array index: " + part);
+                    validIndexes[i] = false;
                 }
             }
+        }
+
+        JsonNode resolve(JsonNode tree) {
 
-            if (tree.has(part)) {
-                return resolve(tree.get(part), path);
-            } else {
-                throw new IllegalArgumentException("Path not present: " + part);
+            JsonNode node = tree;
+
+            for (int i = 0; i < parts.length; i++) {
+                if (node == null) {
+                    throw new IllegalArgumentException("Path not present: " + parts[i - 1]);
+                } else if (node.isArray()) {
+                    if (!validIndexes[i]) {
+                        throw new IllegalArgumentException("Not a valid array index: " + parts[i]);
+                    }
+                    node = node.get(indexes[i]);
+                } else if (node.has(parts[i])) {
+                    node = node.get(parts[i]);
+                } else {
+                    throw new IllegalArgumentException("Path not present: " + parts[i]);
+                }
             }
+
+            return node;
+
         }
 
     }
+
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassContainer;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JType;
+
+/**
+ * Finds the source files that make up a generated type: the file declaring
+ * the type itself and the files of every generated type it refers to
+ * (through its super types, fields, type arguments or nested types).
+ */
+final class GeneratedSourceFiles {
+
+    private GeneratedSourceFiles() {
+    }
+
+    /**
+     * @param type
+     *            a type returned by the schema mapper
+     * @return the paths, relative to the target directory, of the source files
+     *         written for the given type and all generated types reachable
+     *         from it
+     */
+    static Set<String> reachableFrom(JType type) {
+        Set<String> sourceFiles = new TreeSet<String>();
+        collect(type, sourceFiles, Collections.newSetFromMap(new IdentityHashMap<JType, Boolean>()));
+        return sourceFiles;
+    }
+
+    private static void collect(JType type, Set<String> sourceFiles, Set<JType> visited) {
+        if (type == null || type.isPrimitive() || !visited.add(type)) {
+            return;
+        }
+
+        if (type.isArray()) {
+            collect(type.elementType(), sourceFiles, visited);
+            return;
+        }
+
+        JClass jclass = (JClass) type;
+        for (JClass typeParameter : jclass.getTypeParameters()) {
+            collect(typeParameter, sourceFiles, visited);
+        }
+
+        if (jclass.erasure() != jclass) {
+            collect(jclass.erasure(), sourceFiles, visited);
+        }
+
+        if (jclass instanceof JDefinedClass) {
+            JDefinedClass definedClass = (JDefinedClass) jclass;
+
+            if (!definedClass.isHidden()) {
+                sourceFiles.add(sourceFile(definedClass));
+            }
+
+            collect(definedClass._extends(), sourceFiles, visited);
+            for (Iterator<JClass> interfaces = definedClass._implements(); interfaces.hasNext();) {
+                collect(interfaces.next(), sourceFiles, visited);
+            }
+            for (JFieldVar field : definedClass.fields().values()) {
+                collect(field.type(), sourceFiles, visited);
+            }
+            for (Iterator<JDefinedClass> nestedClasses = definedClass.classes(); nestedClasses.hasNext();) {
+                collect(nestedClasses.next(), sourceFiles, visited);
+            }
+        }
+    }
+
+    private static String sourceFile(JDefinedClass definedClass) {
+        JDefinedClass topLevelClass = definedClass;
+        JClassContainer container = definedClass.parentContainer();
+        while (container.isClass()) {
+            topLevelClass = (JDefinedClass) container;
+            container = topLevelClass.parentContainer();
+        }
+
+        String packagePath = topLevelClass._package().name().replace('.', '/');
+        return (packagePath.isEmpty() ? "" : packagePath + "/") + topLevelClass.name() + ".java";
+    }
+
+}
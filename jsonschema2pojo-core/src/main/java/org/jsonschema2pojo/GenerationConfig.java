@@ -393,4 +393,207 @@ public interface GenerationConfig {
      */
     String getTimeType();
 
+    /**
+     * Gets the 'parallelism' configuration option.
+     *
+     * @return The number of worker threads that should be used to read and
+     *         parse source documents concurrently before types are generated.
+     *         A value of <code>1</code> (or less) causes all source documents
+     *         to be processed sequentially.
+     */
+    int getParallelism();
+
+    /**
+     * Gets the 'incremental' configuration option.
+     *
+     * @return Whether to skip generation when nothing has changed since the
+     *         last run. When enabled, a manifest (holding a hash of every
+     *         document read, the configuration and the generator version) is
+     *         written to the target directory, and later runs are skipped if
+     *         all of these are unchanged.
+     */
+    boolean isIncremental();
+
+    /**
+     * Gets the 'writeOnlyChangedFiles' configuration option.
+     *
+     * @return Whether to write only those generated files whose content
+     *         differs from the file already in the target directory. Files that
+     *         are unchanged are left untouched (so their modification time is
+     *         preserved). When combined with 'removeOldOutput', files that are
+     *         no longer generated are removed after generation, instead of
+     *         clearing the target directory beforehand.
+     */
+    boolean isWriteOnlyChangedFiles();
+
+    /**
+     * Gets the 'maxCachedDocuments' configuration option.
+     *
+     * @return The maximum number of schema documents whose parsed
+     *         content is held in memory during generation. When more documents
+     *         have been read, the content of the oldest documents whose types
+     *         have all been generated is released (and read again if it is
+     *         needed later). A value of <code>0</code> (or less) means that no
+     *         limit is applied.
+     */
+    int getMaxCachedDocuments();
+
+    /**
+     * Gets the 'httpCacheDirectory' configuration option.
+     *
+     * @return The directory in which documents read using http or https
+     *         are cached between runs (or <code>null</code> if they are not
+     *         cached). A cached document is revalidated using its ETag or
+     *         Last-Modified date, so it is only downloaded again if it has
+     *         changed.
+     */
+    File getHttpCacheDirectory();
+
+    /**
+     * Gets the 'offline' configuration option.
+     *
+     * @return Whether documents that would be read using http or https
+     *         must instead be taken from the http cache directory. When
+     *         <code>true</code>, no network requests are made and generation
+     *         fails if a remote document has not been cached.
+     */
+    boolean isOffline();
+
+    /**
+     * Gets the 'httpTimeout' configuration option.
+     *
+     * @return The timeout, in milliseconds, for connecting to a server
+     *         and for reading a document using http or https. A value of
+     *         <code>0</code> means that no timeout is applied.
+     */
+    int getHttpTimeout();
+
+    /**
+     * Gets the 'prefetchReferences' configuration option.
+     *
+     * @return Whether every document referenced (directly or
+     *         indirectly) by the source schemas, using <code>$ref</code> or
+     *         <code>extends</code>, should be read and parsed before types are
+     *         generated. Documents are read concurrently, using the number of
+     *         threads given by the 'parallelism' option.
+     */
+    boolean isPrefetchReferences();
+
+    /**
+     * Gets the 'exampleArraySampleSize' configuration option.
+     *
+     * @return The number of items of each array in a JSON example (see
+     *         'sourceType') that are always used to infer the type of its
+     *         items. Later items are used with decreasing probability, as in
+     *         reservoir sampling, so that very large arrays are not read in
+     *         full. A value of zero or less means every item is used.
+     */
+    int getExampleArraySampleSize();
+
+    /**
+     * Gets the 'inferExampleFormats' configuration option.
+     *
+     * @return Whether string properties of JSON examples (see
+     *         'sourceType') whose values all look like a date-time, date, uuid
+     *         or absolute uri should be given the matching 'format', so that a
+     *         narrower Java type is generated.
+     */
+    boolean isInferExampleFormats();
+
+    /**
+     * Gets the 'maxExampleEnumValues' configuration option.
+     *
+     * @return The largest number of distinct values a string property
+     *         of JSON examples (see 'sourceType') may have for it to be
+     *         generated as an enum. Values must also repeat, each being seen at
+     *         least twice on average. Zero disables enum inference.
+     */
+    int getMaxExampleEnumValues();
+
+    /**
+     * Gets the 'useFieldwiseHashcodeAndEquals' configuration option.
+     *
+     * @return Whether generated <code>hashCode</code> and
+     *         <code>equals</code> methods (see 'includeHashcodeAndEquals')
+     *         should compare and hash each field directly instead of using the
+     *         commons-lang <code>HashCodeBuilder</code> and
+     *         <code>EqualsBuilder</code>, so that no helper objects are
+     *         allocated and no primitives are boxed. Hash codes are the same as
+     *         those produced by <code>HashCodeBuilder</code>.
+     */
+    boolean isUseFieldwiseHashcodeAndEquals();
+
+    /**
+     * Gets the 'useFieldwiseToString' configuration option.
+     *
+     * @return Whether generated <code>toString</code> methods should
+     *         append each field to a <code>StringBuilder</code> directly,
+     *         instead of calling
+     *         <code>ToStringBuilder.reflectionToString</code>. The output has
+     *         the same format.
+     */
+    boolean isUseFieldwiseToString();
+
+    /**
+     * Gets the 'useEnumSwitchLookup' configuration option.
+     *
+     * @return Whether generated enums should look up constants using a
+     *         switch on the hash code of the value (or, for very large enums, a
+     *         lazily created map) instead of a map created when the enum is
+     *         loaded. A non-throwing <code>tryFromValue</code> method is also
+     *         generated.
+     */
+    boolean isUseEnumSwitchLookup();
+
+    /**
+     * Gets the 'useIndexedDynamicAccessors' configuration option.
+     *
+     * @return Whether dynamic accessors should be backed by a property
+     *         index: each class numbers every property it declares or inherits,
+     *         and gets <code>propertyIndex</code>, <code>propertyName</code>,
+     *         <code>getByIndex</code>, <code>setByIndex</code> and
+     *         <code>forEachProperty</code> methods. Lookups by name then take
+     *         the same time at any depth of inheritance. Only used when
+     *         'includeDynamicAccessors' and 'includeAccessors' are both true.
+     */
+    boolean isUseIndexedDynamicAccessors();
+
+    /**
+     * Gets the 'useLazyAdditionalProperties' configuration option.
+     *
+     * @return Whether the map that holds additional properties should
+     *         be created lazily. Until a property is added,
+     *         <code>getAdditionalProperties</code> returns a shared, empty
+     *         (read-only) map; a single property is held in a singleton map,
+     *         and a <code>HashMap</code> is only created for the second. The
+     *         map returned by <code>getAdditionalProperties</code> should be
+     *         treated as read-only; use <code>setAdditionalProperty</code> to
+     *         add properties.
+     */
+    boolean isUseLazyAdditionalProperties();
+
+    /**
+     * Gets the 'useLazyCollectionDefaults' configuration option.
+     *
+     * @return Whether List and Set properties should start out
+     *         referring to a shared default (an empty collection, or a static
+     *         copy of the schema default) that is only copied into a new
+     *         collection by the property's getter. Only used when
+     *         'includeAccessors' is true (and 'parcelable' is false). As
+     *         getters then assign the field, they are no longer safe to call
+     *         concurrently on a shared instance.
+     */
+    boolean isUseLazyCollectionDefaults();
+
+    /**
+     * Gets the 'useStaticDefaultConstants' configuration option.
+     *
+     * @return Whether schema defaults of immutable types (BigDecimal,
+     *         URI, Pattern, boxed numbers, enums and Joda date/time types)
+     *         should be created once, in a private static final constant, and
+     *         assigned to each new instance by reference. Mutable defaults such
+     *         as java.util.Date are still created per instance.
+     */
+    boolean isUseStaticDefaultConstants();
+
 }
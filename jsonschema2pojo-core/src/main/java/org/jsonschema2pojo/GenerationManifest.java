@@ -0,0 +1,520 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static org.apache.commons.lang3.StringUtils.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.jsonschema2pojo.exception.GenerationException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * A record of the inputs and outputs of a generation run, kept in the target
+ * directory so that a later run can be skipped entirely when none of those
+ * inputs have changed, or can regenerate only the source schemas affected by
+ * a change.
+ * <p>
+ * The manifest holds a hash of every document that was read (the source
+ * documents and every document they reference using <code>$ref</code>), a
+ * hash of the effective configuration and the version of the generator. For
+ * each source document it also holds the documents that source depends on and
+ * the source files generated for it.
+ * <p>
+ * JSON examples (see {@link SourceType#JSON}) are hashed as raw bytes, read
+ * as a stream: an example may hold several values, and its content is never
+ * needed as a tree.
+ */
+public class GenerationManifest {
+
+    public static final String FILE_NAME = ".jsonschema2pojo-manifest";
+
+    private static final String GENERATOR_VERSION_KEY = "generator.version";
+    private static final String CONFIG_HASH_KEY = "config.hash";
+    private static final String SOURCE_TYPE_KEY = "config.sourceType";
+    private static final String DOCUMENT_KEY_PREFIX = "document.";
+    private static final String SOURCE_KEY_PREFIX = "source.";
+    private static final String DOCUMENTS_KEY_SUFFIX = ".documents";
+    private static final String OUTPUTS_KEY_SUFFIX = ".outputs";
+
+    /**
+     * Options that have no effect on the generated output.
+     */
+    private static final Set<String> IGNORED_OPTIONS = new HashSet<String>(Arrays.asList("getSource", "getParallelism", "isIncremental", "isWriteOnlyChangedFiles", "getMaxCachedDocuments", "getHttpCacheDirectory", "isOffline", "getHttpTimeout", "isPrefetchReferences"));
+
+    private final String generatorVersion;
+    private final String configHash;
+    private final SourceType sourceType;
+    private final Map<URI, String> documentHashes = new TreeMap<URI, String>();
+    private final Map<String, Set<URI>> sourceDocuments = new TreeMap<String, Set<URI>>();
+    private final Map<String, Set<String>> sourceOutputs = new TreeMap<String, Set<String>>();
+
+    GenerationManifest(String generatorVersion, String configHash, SourceType sourceType) {
+        this.generatorVersion = generatorVersion;
+        this.configHash = configHash;
+        this.sourceType = sourceType;
+    }
+
+    /**
+     * Creates an empty manifest for a generation run that uses the given
+     * configuration.
+     */
+    public static GenerationManifest create(GenerationConfig config) {
+        return new GenerationManifest(generatorVersion(), configHash(config), config.getSourceType());
+    }
+
+    /**
+     * Reads the manifest written by a previous run.
+     *
+     * @param targetDirectory
+     *            the target directory of the previous run
+     * @return the manifest found in the given directory, or <code>null</code>
+     *         if no (readable) manifest exists
+     */
+    public static GenerationManifest read(File targetDirectory) {
+        File manifestFile = new File(targetDirectory, FILE_NAME);
+        if (!manifestFile.isFile()) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        InputStream in = null;
+        try {
+            in = new FileInputStream(manifestFile);
+            properties.load(in);
+        } catch (IOException e) {
+            return null;
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+
+        String sourceTypeName = properties.getProperty(SOURCE_TYPE_KEY);
+        if (sourceTypeName == null) {
+            // written by an older version, which hashed documents differently
+            return null;
+        }
+
+        GenerationManifest manifest;
+        try {
+            manifest = new GenerationManifest(properties.getProperty(GENERATOR_VERSION_KEY), properties.getProperty(CONFIG_HASH_KEY), SourceType.valueOf(sourceTypeName));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        try {
+            for (String key : properties.stringPropertyNames()) {
+                String value = properties.getProperty(key);
+                if (key.startsWith(DOCUMENT_KEY_PREFIX)) {
+                    manifest.documentHashes.put(new URI(removeStart(key, DOCUMENT_KEY_PREFIX)), value);
+                } else if (key.startsWith(SOURCE_KEY_PREFIX) && key.endsWith(DOCUMENTS_KEY_SUFFIX)) {
+                    Set<URI> documents = new TreeSet<URI>();
+                    for (String document : split(value)) {
+                        documents.add(new URI(document));
+                    }
+                    manifest.sourceDocuments.put(removeEnd(removeStart(key, SOURCE_KEY_PREFIX), DOCUMENTS_KEY_SUFFIX), documents);
+                } else if (key.startsWith(SOURCE_KEY_PREFIX) && key.endsWith(OUTPUTS_KEY_SUFFIX)) {
+                    manifest.sourceOutputs.put(removeEnd(removeStart(key, SOURCE_KEY_PREFIX), OUTPUTS_KEY_SUFFIX), new TreeSet<String>(Arrays.asList(split(value))));
+                }
+            }
+        } catch (URISyntaxException e) {
+            return null;
+        }
+
+        return manifest;
+    }
+
+    /**
+     * Writes this manifest to the given target directory, replacing any
+     * existing manifest.
+     */
+    public void write(File targetDirectory) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(GENERATOR_VERSION_KEY, generatorVersion);
+        properties.setProperty(CONFIG_HASH_KEY, configHash);
+        properties.setProperty(SOURCE_TYPE_KEY, sourceType.name());
+        for (Map.Entry<URI, String> documentHash : documentHashes.entrySet()) {
+            properties.setProperty(DOCUMENT_KEY_PREFIX + documentHash.getKey(), documentHash.getValue());
+        }
+        for (Map.Entry<String, Set<URI>> documents : sourceDocuments.entrySet()) {
+            properties.setProperty(SOURCE_KEY_PREFIX + documents.getKey() + DOCUMENTS_KEY_SUFFIX, join(documents.getValue(), ' '));
+        }
+        for (Map.Entry<String, Set<String>> outputs : sourceOutputs.entrySet()) {
+            properties.setProperty(SOURCE_KEY_PREFIX + outputs.getKey() + OUTPUTS_KEY_SUFFIX, join(outputs.getValue(), ' '));
+        }
+
+        OutputStream out = new FileOutputStream(new File(targetDirectory, FILE_NAME));
+        try {
+            properties.store(out, "Generated by jsonschema2pojo, do not edit");
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Removes any manifest found in the given target directory (so that an
+     * interrupted run is never mistaken for a complete one).
+     */
+    public static void delete(File targetDirectory) {
+        FileUtils.deleteQuietly(new File(targetDirectory, FILE_NAME));
+    }
+
+    /**
+     * Records the dependencies and output of a source document that has just
+     * been generated.
+     *
+     * @param source
+     *            the source document
+     * @param documents
+     *            every document requested while generating types for this
+     *            source
+     * @param outputs
+     *            the paths (relative to the target directory) of the source
+     *            files generated for this source
+     */
+    public void addSource(URL source, Set<URI> documents, Set<String> outputs) {
+        Set<URI> sourceAndDocuments = new TreeSet<URI>(documents);
+        sourceAndDocuments.add(URI.create(source.toString()));
+        sourceDocuments.put(source.toString(), sourceAndDocuments);
+        sourceOutputs.put(source.toString(), new TreeSet<String>(outputs));
+    }
+
+    /**
+     * Copies the record of a source document that was not regenerated from
+     * the given (previous) manifest.
+     */
+    public void copySource(GenerationManifest previous, URL source) {
+        sourceDocuments.put(source.toString(), previous.sourceDocuments.get(source.toString()));
+        sourceOutputs.put(source.toString(), previous.sourceOutputs.get(source.toString()));
+    }
+
+    /**
+     * Hashes the content of every document that the recorded sources depend
+     * on. Documents read during this run are taken from the given schema
+     * store; the hashes of other documents are copied from the previous
+     * manifest (if given) or read again.
+     */
+    public void hashDocuments(SchemaStore schemaStore, GenerationManifest previous) {
+        Set<URI> readDocuments = schemaStore.getDocumentIds();
+
+        for (Set<URI> documents : sourceDocuments.values()) {
+            for (URI document : documents) {
+                if (documentHashes.containsKey(document)) {
+                    continue;
+                } else if (readDocuments.contains(document)) {
+                    documentHashes.put(document, hashDocument(schemaStore, document));
+                } else if (previous != null && previous.documentHashes.containsKey(document)) {
+                    documentHashes.put(document, previous.documentHashes.get(document));
+                } else {
+                    documentHashes.put(document, hashDocument(schemaStore, document));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether output generated by the run described by this manifest
+     * can be kept by a run with the given configuration.
+     *
+     * @return <code>true</code> if the generator and the configuration are
+     *         both unchanged
+     */
+    public boolean isCompatible(GenerationConfig config) {
+        return generatorVersion().equals(generatorVersion) && configHash(config).equals(configHash);
+    }
+
+    /**
+     * Finds the sources recorded in this manifest that are not in the given
+     * list of sources.
+     */
+    public Set<String> getRemovedSources(List<URL> sources) {
+        Set<String> removedSources = new TreeSet<String>(sourceDocuments.keySet());
+        for (URL source : sources) {
+            removedSources.remove(source.toString());
+        }
+        return removedSources;
+    }
+
+    /**
+     * Finds the sources that must be regenerated: those that are not recorded
+     * in this manifest, those that depend (directly or through
+     * <code>$ref</code>) on a document whose content has changed, and those
+     * whose generated source files are no longer all present.
+     *
+     * @param sources
+     *            the sources of the current run
+     * @param schemaStore
+     *            the store used to read the current content of documents
+     * @param targetDirectory
+     *            the directory holding the generated source files
+     * @return the URLs (as strings) of the sources to regenerate
+     */
+    public Set<String> getDirtySources(List<URL> sources, SchemaStore schemaStore, File targetDirectory) {
+        Set<URI> changedDocuments = getChangedDocuments(schemaStore);
+
+        Set<String> dirtySources = new HashSet<String>();
+        for (URL source : sources) {
+            Set<URI> documents = sourceDocuments.get(source.toString());
+            if (documents == null || !disjoint(documents, changedDocuments) || isOutputMissing(source.toString(), targetDirectory)) {
+                dirtySources.add(source.toString());
+            }
+        }
+        return dirtySources;
+    }
+
+    /**
+     * Finds the documents whose content no longer matches the hash recorded
+     * in this manifest (including documents that can no longer be read).
+     */
+    Set<URI> getChangedDocuments(SchemaStore schemaStore) {
+        Set<URI> changedDocuments = new HashSet<URI>();
+        for (Map.Entry<URI, String> documentHash : documentHashes.entrySet()) {
+            try {
+                if (!hashDocument(schemaStore, documentHash.getKey()).equals(documentHash.getValue())) {
+                    changedDocuments.add(documentHash.getKey());
+                }
+            } catch (IllegalArgumentException e) {
+                changedDocuments.add(documentHash.getKey());
+            }
+        }
+        return changedDocuments;
+    }
+
+    /**
+     * Finds the source files that were generated by the previous run but are
+     * not part of the output recorded in this manifest.
+     */
+    public Set<String> getObsoleteOutputs(GenerationManifest previous) {
+        Set<String> obsoleteOutputs = previous.getAllOutputs();
+        obsoleteOutputs.removeAll(getAllOutputs());
+        return obsoleteOutputs;
+    }
+
+    /**
+     * Checks that regenerating only the given sources has produced the same
+     * class names that regenerating every source would have produced.
+     * <p>
+     * Class names are made unique by appending underscores in the order that
+     * types are generated. When only some sources are regenerated, a name may
+     * be claimed that belongs to a type of a source that was not regenerated,
+     * or a name may be freed that a type of such a source had to avoid. In
+     * either case the output of a full run would be different.
+     *
+     * @param previous
+     *            the manifest of the previous run
+     * @param regeneratedSources
+     *            the URLs (as strings) of the sources that were regenerated in
+     *            this run
+     * @return <code>true</code> if every output of a regenerated source is new
+     *         or was already an output of that source, and no output that has
+     *         been removed had given rise to a unique name
+     */
+    public boolean isConsistentWith(GenerationManifest previous, Set<String> regeneratedSources) {
+        Set<String> keptOutputs = new HashSet<String>();
+        for (Map.Entry<String, Set<String>> outputs : sourceOutputs.entrySet()) {
+            if (!regeneratedSources.contains(outputs.getKey())) {
+                keptOutputs.addAll(outputs.getValue());
+            }
+        }
+
+        for (String source : regeneratedSources) {
+            Set<String> previousOutputs = previous.sourceOutputs.get(source);
+            for (String output : sourceOutputs.get(source)) {
+                if (keptOutputs.contains(output) && (previousOutputs == null || !previousOutputs.contains(output))) {
+                    return false;
+                }
+            }
+        }
+
+        for (String obsoleteOutput : getObsoleteOutputs(previous)) {
+            String uniqueNamePrefix = removeEnd(obsoleteOutput, ".java") + "_";
+            for (String output : getAllOutputs()) {
+                if (output.startsWith(uniqueNamePrefix)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isOutputMissing(String source, File targetDirectory) {
+        Set<String> outputs = sourceOutputs.get(source);
+        if (outputs == null) {
+            return true;
+        }
+        for (String output : outputs) {
+            if (!new File(targetDirectory, output).isFile()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> getAllOutputs() {
+        Set<String> allOutputs = new TreeSet<String>();
+        for (Set<String> outputs : sourceOutputs.values()) {
+            allOutputs.addAll(outputs);
+        }
+        return allOutputs;
+    }
+
+    private static boolean disjoint(Set<URI> documents, Set<URI> changedDocuments) {
+        for (URI document : documents) {
+            if (changedDocuments.contains(document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String generatorVersion() {
+        Package generatorPackage = GenerationManifest.class.getPackage();
+        String version = generatorPackage != null ? generatorPackage.getImplementationVersion() : null;
+
+        // snapshot builds share a version, so include the build time too
+        long buildTime = 0;
+        CodeSource codeSource = GenerationManifest.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                buildTime = new File(codeSource.getLocation().toURI()).lastModified();
+            } catch (URISyntaxException e) {
+                buildTime = 0;
+            } catch (IllegalArgumentException e) {
+                buildTime = 0;
+            }
+        }
+
+        return (version != null ? version : "unknown") + "@" + buildTime;
+    }
+
+    static String configHash(GenerationConfig config) {
+        Method[] options = GenerationConfig.class.getMethods();
+        Arrays.sort(options, new Comparator<Method>() {
+            @Override
+            public int compare(Method o1, Method o2) {
+                return o1.getName().compareTo(o2.getName());
+            }
+        });
+
+        StringBuilder description = new StringBuilder();
+        for (Method option : options) {
+            if (option.getParameterTypes().length > 0 || IGNORED_OPTIONS.contains(option.getName())) {
+                continue;
+            }
+            try {
+                description.append(option.getName()).append('=').append(describe(option.invoke(config))).append('\n');
+            } catch (IllegalAccessException e) {
+                throw new GenerationException(e);
+            } catch (InvocationTargetException e) {
+                throw new GenerationException(e.getCause());
+            }
+        }
+
+        return hash(description.toString());
+    }
+
+    private static String describe(Object value) {
+        if (value == null) {
+            return "null";
+        } else if (value.getClass().isArray()) {
+            return ArrayUtils.toString(value);
+        } else if (value instanceof Class) {
+            return ((Class<?>) value).getName();
+        } else if (value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum || value instanceof File) {
+            return value.toString();
+        } else {
+            // e.g. file filters, which have no meaningful string form
+            return value.getClass().getName();
+        }
+    }
+
+    private String hashDocument(SchemaStore schemaStore, URI document) {
+        if (sourceType == SourceType.JSON) {
+            return hashContent(document);
+        }
+        return hash(schemaStore.getDocument(document));
+    }
+
+    private static String hashContent(URI document) {
+        InputStream in = null;
+        try {
+            MessageDigest digest = newDigest();
+            in = document.toURL().openStream();
+            byte[] buffer = new byte[8192];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+            return format(digest);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read document: " + document, e);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    private static String hash(JsonNode content) {
+        return hash(content.toString());
+    }
+
+    private static String hash(String content) {
+        MessageDigest digest = newDigest();
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        return format(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new GenerationException("SHA-1 is not available", e);
+        }
+    }
+
+    private static String format(MessageDigest digest) {
+        return String.format("%040x", new BigInteger(1, digest.digest()));
+    }
+
+}
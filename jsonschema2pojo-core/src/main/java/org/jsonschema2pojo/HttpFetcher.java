@@ -0,0 +1,43 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Fetches the content of documents that are read using http or https. A
+ * {@link ContentResolver} can be given a custom fetcher to change the way
+ * remote documents are read (for instance, to add authentication).
+ * <p>
+ * Documents may be fetched by many threads at once, so implementations must
+ * be thread-safe.
+ */
+public interface HttpFetcher {
+
+    /**
+     * Fetches the content of the document at the given URI.
+     *
+     * @param uri
+     *            an http or https URI
+     * @return the (raw, undecoded) content of the document
+     * @throws IOException
+     *             if the document can't be read
+     */
+    byte[] fetch(URI uri) throws IOException;
+
+}
@@ -0,0 +1,339 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Accumulates the kinds of value seen at one position of one or more JSON
+ * examples (the root, a named property or the items of an array), so that a
+ * schema can be inferred without keeping the examples in memory.
+ * <p>
+ * Objects merge their properties (in the order they were first seen) and
+ * arrays merge all of their items, so the size of the model depends on the
+ * shape of the examples rather than on their length. Besides the kind of
+ * each value, the model tracks the widest integer seen and, when the
+ * configuration asks for it, the string formats every value matched and the
+ * distinct string values (up to a limit).
+ */
+class InferredType {
+
+    private static final Pattern DATE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?(Z|[+-]\\d{2}:?\\d{2})");
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern UUID = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private static final Pattern ABSOLUTE_URI = Pattern.compile("[a-zA-Z][a-zA-Z0-9+.-]*://\\S+");
+
+    private static final int FORMAT_DATE_TIME = 1;
+    private static final int FORMAT_DATE = 1 << 1;
+    private static final int FORMAT_UUID = 1 << 2;
+    private static final int FORMAT_URI = 1 << 3;
+    private static final int ALL_FORMATS = FORMAT_DATE_TIME | FORMAT_DATE | FORMAT_UUID | FORMAT_URI;
+
+    private final GenerationConfig config;
+
+    private boolean seenNull;
+    private boolean seenBoolean;
+    private boolean seenInteger;
+    private boolean seenNumber;
+    private boolean seenString;
+    private boolean seenObject;
+    private boolean seenArray;
+
+    private NumberType widestInteger = NumberType.INT;
+
+    private int possibleFormats = ALL_FORMATS;
+    private long stringCount;
+    private Set<String> stringValues;
+    private Set<String> enumConstantKeys;
+
+    private Map<String, InferredType> properties;
+    private InferredType items;
+
+    /**
+     * @param config
+     *            the configuration that decides which details of string
+     *            values are tracked and how integers are typed
+     */
+    InferredType(GenerationConfig config) {
+        this.config = config;
+        if (config.getMaxExampleEnumValues() > 0) {
+            this.stringValues = new LinkedHashSet<String>();
+            this.enumConstantKeys = new HashSet<String>();
+        }
+    }
+
+    void addNull() {
+        seenNull = true;
+    }
+
+    void addBoolean() {
+        seenBoolean = true;
+    }
+
+    /**
+     * Records an integer value.
+     *
+     * @param numberType
+     *            the smallest type that holds the value, as reported by the
+     *            parser
+     */
+    void addInteger(NumberType numberType) {
+        seenInteger = true;
+        if (numberType.ordinal() > widestInteger.ordinal()) {
+            widestInteger = numberType;
+        }
+    }
+
+    void addNumber() {
+        seenNumber = true;
+    }
+
+    /**
+     * Records a string value, narrowing the formats that all strings seen
+     * here match and counting distinct values while an enum is still
+     * possible.
+     */
+    void addString(String value) {
+        seenString = true;
+        stringCount++;
+
+        if (possibleFormats != 0 && config.isInferExampleFormats()) {
+            possibleFormats = formatsOf(value, possibleFormats);
+        }
+
+        if (stringValues != null && stringValues.add(value)) {
+            if (stringValues.size() > config.getMaxExampleEnumValues() || !enumConstantKeys.add(enumConstantKey(value))) {
+                // too many values, or values an enum could not tell apart
+                stringValues = null;
+                enumConstantKeys = null;
+            }
+        }
+    }
+
+    /**
+     * Records an object value.
+     */
+    void addObject() {
+        seenObject = true;
+        if (properties == null) {
+            properties = new LinkedHashMap<String, InferredType>();
+        }
+    }
+
+    /**
+     * Records an array value.
+     */
+    void addArray() {
+        seenArray = true;
+    }
+
+    /**
+     * @return the model for the named property of the objects seen here,
+     *         created when the property is first seen
+     */
+    InferredType property(String name) {
+        InferredType property = properties.get(name);
+        if (property == null) {
+            property = new InferredType(config);
+            properties.put(name, property);
+        }
+        return property;
+    }
+
+    /**
+     * @return the model shared by the items of all arrays seen here
+     */
+    InferredType items() {
+        if (items == null) {
+            items = new InferredType(config);
+        }
+        return items;
+    }
+
+    /**
+     * Produces a schema that accepts every value seen. Nulls only matter when
+     * nothing else was seen; integers and numbers together widen to
+     * "number"; any other mix of kinds becomes "any".
+     * <p>
+     * Integers that don't fit an <code>int</code> are given a
+     * <code>javaType</code> of <code>long</code> or {@link BigInteger}.
+     * Strings get a "format" when every value matched one of date-time, date,
+     * uuid or uri (see {@link GenerationConfig#isInferExampleFormats()}), or
+     * else an "enum" when few distinct values were seen and values repeat
+     * (see {@link GenerationConfig#getMaxExampleEnumValues()}).
+     *
+     * @param factory
+     *            the factory used to create schema nodes
+     * @return a new schema node
+     */
+    ObjectNode toSchema(JsonNodeFactory factory) {
+        ObjectNode schema = factory.objectNode();
+        String typeName = getTypeName();
+        schema.put("type", typeName);
+
+        if (typeName.equals("object")) {
+            ObjectNode propertySchemas = factory.objectNode();
+            for (Map.Entry<String, InferredType> property : properties.entrySet()) {
+                propertySchemas.set(property.getKey(), property.getValue().toSchema(factory));
+            }
+            schema.set("properties", propertySchemas);
+        } else if (typeName.equals("array") && items != null) {
+            schema.set("items", items.toSchema(factory));
+        } else if (typeName.equals("integer")) {
+            String javaType = getIntegerJavaType();
+            if (javaType != null) {
+                schema.put("javaType", javaType);
+            }
+        } else if (typeName.equals("string")) {
+            String format = getFormat();
+            if (format != null) {
+                schema.put("format", format);
+            } else if (isEnum()) {
+                ArrayNode enumValues = schema.putArray("enum");
+                for (String value : stringValues) {
+                    enumValues.add(value);
+                }
+            }
+        }
+
+        return schema;
+    }
+
+    private String getTypeName() {
+        if (hasMixedKinds()) {
+            return "any";
+        } else if (seenObject) {
+            return "object";
+        } else if (seenArray) {
+            return "array";
+        } else if (seenString) {
+            return "string";
+        } else if (seenNumber) {
+            return "number";
+        } else if (seenInteger) {
+            return "integer";
+        } else if (seenBoolean) {
+            return "boolean";
+        } else {
+            return "null";
+        }
+    }
+
+    private boolean hasMixedKinds() {
+        int kinds = 0;
+        for (boolean seen : new boolean[] { seenBoolean, seenInteger || seenNumber, seenString, seenObject, seenArray }) {
+            if (seen) {
+                kinds++;
+            }
+        }
+        return kinds > 1;
+    }
+
+    private String getIntegerJavaType() {
+        if (widestInteger == NumberType.BIG_INTEGER) {
+            return BigInteger.class.getName();
+        } else if (widestInteger == NumberType.LONG && !config.isUseLongIntegers()) {
+            return config.isUsePrimitives() ? "long" : Long.class.getName();
+        } else {
+            return null;
+        }
+    }
+
+    private String getFormat() {
+        if (!config.isInferExampleFormats()) {
+            return null;
+        } else if ((possibleFormats & FORMAT_DATE_TIME) != 0) {
+            return "date-time";
+        } else if ((possibleFormats & FORMAT_DATE) != 0) {
+            return "date";
+        } else if ((possibleFormats & FORMAT_UUID) != 0) {
+            return "uuid";
+        } else if ((possibleFormats & FORMAT_URI) != 0) {
+            return "uri";
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * A string becomes an enum when no more than the configured number of
+     * distinct values were seen and, on average, each was seen at least
+     * twice (so a single example never turns every string into an enum).
+     */
+    private boolean isEnum() {
+        return stringValues != null && !stringValues.isEmpty() && stringCount >= 2L * stringValues.size();
+    }
+
+    /**
+     * Finds which of the given formats the value has. Formats that earlier
+     * values already ruled out are not checked again.
+     */
+    private static int formatsOf(String value, int candidateFormats) {
+        int formats = 0;
+        if ((candidateFormats & FORMAT_DATE_TIME) != 0 && DATE_TIME.matcher(value).matches()) {
+            formats |= FORMAT_DATE_TIME;
+        }
+        if ((candidateFormats & FORMAT_DATE) != 0 && DATE.matcher(value).matches()) {
+            formats |= FORMAT_DATE;
+        }
+        if ((candidateFormats & FORMAT_UUID) != 0 && UUID.matcher(value).matches()) {
+            formats |= FORMAT_UUID;
+        }
+        if ((candidateFormats & FORMAT_URI) != 0 && ABSOLUTE_URI.matcher(value).matches() && isUri(value)) {
+            formats |= FORMAT_URI;
+        }
+        return formats;
+    }
+
+    private static boolean isUri(String value) {
+        try {
+            URI.create(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reduces a value to the letters and digits that survive in an enum
+     * constant name, so that values mapping to the same constant are found.
+     */
+    private static String enumConstantKey(String value) {
+        StringBuilder key = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase(Locale.ENGLISH);
+    }
+
+}
@@ -22,13 +22,18 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.jsonschema2pojo.exception.GenerationException;
 import org.jsonschema2pojo.rules.RuleFactory;
@@ -37,6 +42,7 @@ import org.jsonschema2pojo.util.URLUtil;
 
 import com.sun.codemodel.CodeWriter;
 import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JType;
 
 public class Jsonschema2Pojo {
     /**
@@ -58,30 +64,165 @@ public class Jsonschema2Pojo {
         ruleFactory.setAnnotator(annotator);
         ruleFactory.setGenerationConfig(config);
 
-        SchemaMapper mapper = new SchemaMapper(ruleFactory, new SchemaGenerator());
+        SchemaMapper mapper = new SchemaMapper(ruleFactory, new SchemaGenerator(config));
 
-        JCodeModel codeModel = new JCodeModel();
-
-        if (config.isRemoveOldOutput()) {
-            removeOldOutput(config.getTargetDirectory());
-        }
+        List<SchemaSource> schemaSources = new ArrayList<SchemaSource>();
 
         for (Iterator<URL> sources = config.getSource(); sources.hasNext();) {
             URL source = sources.next();
 
             if (URLUtil.parseProtocol(source.toString()) == URLProtocol.FILE && URLUtil.getFileFromURL(source).isDirectory()) {
-                generateRecursive(config, mapper, codeModel, defaultString(config.getTargetPackage()), Arrays.asList(URLUtil.getFileFromURL(source).listFiles(config.getFileFilter())));
+                collectRecursive(config, schemaSources, defaultString(config.getTargetPackage()), Arrays.asList(URLUtil.getFileFromURL(source).listFiles(config.getFileFilter())));
             } else {
-                mapper.generate(codeModel, getNodeName(source, config), defaultString(config.getTargetPackage()), source);
+                schemaSources.add(new SchemaSource(source, getNodeName(source, config), defaultString(config.getTargetPackage())));
+            }
+        }
+
+        GenerationManifest previousManifest = null;
+
+        if (config.isIncremental()) {
+            previousManifest = GenerationManifest.read(config.getTargetDirectory());
+
+            if (previousManifest != null && previousManifest.isCompatible(config)) {
+                List<URL> sourceUrls = new ArrayList<URL>();
+                for (SchemaSource schemaSource : schemaSources) {
+                    sourceUrls.add(schemaSource.url);
+                }
+
+                Set<String> dirtySources = previousManifest.getDirtySources(sourceUrls, ruleFactory.getSchemaStore(), config.getTargetDirectory());
+                boolean sourcesRemoved = !previousManifest.getRemovedSources(sourceUrls).isEmpty();
+
+                if (dirtySources.isEmpty() && !sourcesRemoved) {
+                    return;
+                }
+
+                GenerationManifest.delete(config.getTargetDirectory());
+
+                if (!sourcesRemoved && !config.isRemoveOldOutput()
+                        && generateDirtySources(config, ruleFactory, mapper, schemaSources, dirtySources, previousManifest)) {
+                    return;
+                }
+
+                // start again, so that nothing generated above is reused
+                ruleFactory = createRuleFactory(config);
+                ruleFactory.setAnnotator(annotator);
+                ruleFactory.setGenerationConfig(config);
+                mapper = new SchemaMapper(ruleFactory, new SchemaGenerator(config));
+            } else {
+                GenerationManifest.delete(config.getTargetDirectory());
+            }
+        }
+
+        if (config.isRemoveOldOutput() && !config.isWriteOnlyChangedFiles()) {
+            removeOldOutput(config.getTargetDirectory());
+        }
+
+        GenerationManifest manifest = config.isIncremental() ? GenerationManifest.create(config) : null;
+
+        JCodeModel codeModel = generateTypes(config, ruleFactory, mapper, schemaSources, manifest);
+
+        writeTypes(config, codeModel);
+
+        if (manifest != null) {
+            if (previousManifest != null) {
+                removeObsoleteOutputs(config, manifest, previousManifest);
             }
+            manifest.hashDocuments(ruleFactory.getSchemaStore(), null);
+            manifest.write(config.getTargetDirectory());
         }
+    }
+
+    /**
+     * Regenerates only the sources that are new or depend on a changed
+     * document, leaving the output of all other sources untouched. Source
+     * files that are no longer generated are removed.
+     *
+     * @return <code>false</code> (having written nothing) if the output of
+     *         regenerating only these sources would differ from the output of
+     *         regenerating every source
+     */
+    private static boolean generateDirtySources(GenerationConfig config, RuleFactory ruleFactory, SchemaMapper mapper, List<SchemaSource> schemaSources, Set<String> dirtySources, GenerationManifest previousManifest) throws IOException {
+        List<SchemaSource> dirtySchemaSources = new ArrayList<SchemaSource>();
+        for (SchemaSource schemaSource : schemaSources) {
+            if (dirtySources.contains(schemaSource.url.toString())) {
+                dirtySchemaSources.add(schemaSource);
+            }
+        }
+
+        GenerationManifest manifest = GenerationManifest.create(config);
+
+        JCodeModel codeModel = generateTypes(config, ruleFactory, mapper, dirtySchemaSources, manifest);
+
+        for (SchemaSource schemaSource : schemaSources) {
+            if (!dirtySources.contains(schemaSource.url.toString())) {
+                manifest.copySource(previousManifest, schemaSource.url);
+            }
+        }
+
+        if (!manifest.isConsistentWith(previousManifest, dirtySources)) {
+            return false;
+        }
+
+        writeTypes(config, codeModel);
 
-        if (config.getTargetDirectory().exists() || config.getTargetDirectory().mkdirs()) {
-            CodeWriter sourcesWriter = new FileCodeWriterWithEncoding(config.getTargetDirectory(), config.getOutputEncoding());
+        removeObsoleteOutputs(config, manifest, previousManifest);
+
+        manifest.hashDocuments(ruleFactory.getSchemaStore(), previousManifest);
+        manifest.write(config.getTargetDirectory());
+
+        return true;
+    }
+
+    /**
+     * Generates types for the given sources. If a manifest is given, the
+     * documents each source depends on and the source files generated for it
+     * are recorded in the manifest.
+     */
+    private static JCodeModel generateTypes(GenerationConfig config, RuleFactory ruleFactory, SchemaMapper mapper, List<SchemaSource> schemaSources, GenerationManifest manifest) throws IOException {
+        JCodeModel codeModel = new JCodeModel();
+
+        if (config.getSourceType() == SourceType.JSONSCHEMA) {
+            prefetchDocuments(config, ruleFactory.getSchemaStore(), schemaSources);
+        }
+
+        // types are always generated in source order, so that generated names
+        // (and therefore output) are identical regardless of parallelism
+        for (SchemaSource schemaSource : schemaSources) {
+            if (manifest == null) {
+                mapper.generate(codeModel, schemaSource.nodeName, schemaSource.packageName, schemaSource.url);
+            } else {
+                ruleFactory.getSchemaStore().startRecording();
+                JType type = mapper.generate(codeModel, schemaSource.nodeName, schemaSource.packageName, schemaSource.url);
+                manifest.addSource(schemaSource.url, ruleFactory.getSchemaStore().stopRecording(), GeneratedSourceFiles.reachableFrom(type));
+            }
+        }
+
+        return codeModel;
+    }
+
+    private static void removeObsoleteOutputs(GenerationConfig config, GenerationManifest manifest, GenerationManifest previousManifest) {
+        for (String obsoleteOutput : manifest.getObsoleteOutputs(previousManifest)) {
+            FileUtils.deleteQuietly(new File(config.getTargetDirectory(), obsoleteOutput));
+        }
+    }
+
+    private static void writeTypes(GenerationConfig config, JCodeModel codeModel) throws IOException {
+        if (!config.getTargetDirectory().exists() && !config.getTargetDirectory().mkdirs()) {
+            throw new GenerationException("Could not create or access target directory " + config.getTargetDirectory().getAbsolutePath());
+        }
+
+        if (config.isWriteOnlyChangedFiles()) {
+            WriteIfChangedCodeWriter writer = new WriteIfChangedCodeWriter(config.getTargetDirectory(), config.getOutputEncoding(), Math.max(config.getParallelism(), 1));
+            codeModel.build(writer, writer);
+            if (config.isRemoveOldOutput()) {
+                writer.removeStaleFiles();
+            }
+        } else {
+            CodeWriter sourcesWriter = config.getParallelism() > 1
+                    ? new ParallelFileCodeWriter(config.getTargetDirectory(), config.getOutputEncoding(), config.getParallelism())
+                    : new FileCodeWriterWithEncoding(config.getTargetDirectory(), config.getOutputEncoding());
             CodeWriter resourcesWriter = new FileCodeWriterWithEncoding(config.getTargetDirectory(), config.getOutputEncoding());
             codeModel.build(sourcesWriter, resourcesWriter);
-        } else {
-            throw new GenerationException("Could not create or access target directory " + config.getTargetDirectory().getAbsolutePath());
         }
     }
 
@@ -101,16 +242,38 @@ public class Jsonschema2Pojo {
         }
     }
 
-    private static void generateRecursive(GenerationConfig config, SchemaMapper mapper, JCodeModel codeModel, String packageName, List<File> schemaFiles) throws IOException {
+    private static void collectRecursive(GenerationConfig config, List<SchemaSource> schemaSources, String packageName, List<File> schemaFiles) throws IOException {
         Collections.sort(schemaFiles);
 
         for (File child : schemaFiles) {
             if (child.isFile()) {
-                mapper.generate(codeModel, getNodeName(child.toURI().toURL(), config), defaultString(packageName), child.toURI().toURL());
+                schemaSources.add(new SchemaSource(child.toURI().toURL(), getNodeName(child.toURI().toURL(), config), defaultString(packageName)));
             } else {
-                generateRecursive(config, mapper, codeModel, childQualifiedName(packageName, child.getName()), Arrays.asList(child.listFiles(config.getFileFilter())));
+                collectRecursive(config, schemaSources, childQualifiedName(packageName, child.getName()), Arrays.asList(child.listFiles(config.getFileFilter())));
+            }
+        }
+    }
+
+    /**
+     * Reads and parses the source documents (and, if configured, every
+     * document they reference) using a pool of worker threads, so that the
+     * schema store already holds them when type generation begins.
+     */
+    private static void prefetchDocuments(GenerationConfig config, SchemaStore schemaStore, List<SchemaSource> schemaSources) {
+        if (!config.isPrefetchReferences() && (config.getParallelism() < 2 || schemaSources.size() < 2)) {
+            return;
+        }
+
+        List<URI> documentIds = new ArrayList<URI>();
+        for (SchemaSource schemaSource : schemaSources) {
+            try {
+                documentIds.add(schemaSource.url.toURI());
+            } catch (URISyntaxException e) {
+                // not read in advance, the error is reported during generation
             }
         }
+
+        new DocumentPrefetcher(schemaStore, config.getParallelism()).prefetch(documentIds, config.isPrefetchReferences());
     }
 
     private static String childQualifiedName(String parentQualifiedName, String childSimpleName) {
@@ -169,4 +332,18 @@ public class Jsonschema2Pojo {
         }
 
     }
+
+    private static class SchemaSource {
+
+        private final URL url;
+        private final String nodeName;
+        private final String packageName;
+
+        SchemaSource(URL url, String nodeName, String packageName) {
+            this.url = url;
+            this.nodeName = nodeName;
+            this.packageName = packageName;
+        }
+
+    }
 }
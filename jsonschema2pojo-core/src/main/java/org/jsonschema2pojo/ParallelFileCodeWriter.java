@@ -0,0 +1,169 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.output.StringBuilderWriter;
+
+import com.sun.codemodel.JPackage;
+
+/**
+ * A code writer that renders each source file into a memory buffer and hands
+ * the buffer to a bounded pool of worker threads, which encode it and write it
+ * to disk.
+ * <p>
+ * Sources are still rendered one at a time (by the thread that builds the code
+ * model), so the content of every file is identical to that written by
+ * {@link FileCodeWriterWithEncoding}. Only encoding and file output happen
+ * concurrently. When the pool's queue is full, the rendering thread writes the
+ * next file itself, so the number of buffered files is bounded.
+ */
+public class ParallelFileCodeWriter extends FileCodeWriterWithEncoding {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final ThreadPoolExecutor executor;
+
+    private final List<Future<File>> pendingWrites = new ArrayList<Future<File>>();
+
+    private final Queue<StringBuilder> buffers = new ConcurrentLinkedQueue<StringBuilder>();
+
+    public ParallelFileCodeWriter(File target, String encoding, int parallelism) throws IOException {
+        super(target, encoding);
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 1L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(parallelism * 4), new ThreadPoolExecutor.CallerRunsPolicy());
+        // don't hold the build open if the code model fails before close()
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Writer openSource(JPackage pkg, String fileName) throws IOException {
+        final File file = getFile(pkg, fileName);
+        final StringBuilder buffer = takeBuffer();
+
+        return escapingWriter(new FilterWriter(new StringBuilderWriter(buffer)) {
+            private boolean closed;
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    pendingWrites.add(executor.submit(new WriteTask(file, buffer)));
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits for all pending writes to complete, then releases the worker
+     * threads.
+     *
+     * @throws IOException
+     *             if any source file could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            for (Future<File> pendingWrite : pendingWrites) {
+                pendingWrite.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing source files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            pendingWrites.clear();
+            executor.shutdownNow();
+        }
+
+        super.close();
+    }
+
+    /**
+     * Writes the encoded content of a single source file. Called by the worker
+     * threads (or by the rendering thread, when the pool is busy), so
+     * implementations must be thread-safe.
+     *
+     * @param file
+     *            the file to write
+     * @param bytes
+     *            the encoded content of the file
+     * @throws IOException
+     *             if the file can't be written
+     */
+    protected void writeFile(File file, ByteBuffer bytes) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        } finally {
+            out.close();
+        }
+    }
+
+    private StringBuilder takeBuffer() {
+        StringBuilder buffer = buffers.poll();
+        return buffer != null ? buffer : new StringBuilder(INITIAL_BUFFER_SIZE);
+    }
+
+    private void releaseBuffer(StringBuilder buffer) {
+        buffer.setLength(0);
+        buffers.offer(buffer);
+    }
+
+    private class WriteTask implements Callable<File> {
+
+        private final File file;
+        private final StringBuilder buffer;
+
+        WriteTask(File file, StringBuilder buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public File call() throws IOException {
+            ByteBuffer bytes = charset.encode(CharBuffer.wrap(buffer));
+            releaseBuffer(buffer);
+
+            writeFile(file, bytes);
+            return file;
+        }
+    }
+
+}
@@ -18,126 +18,180 @@ package org.jsonschema2pojo;
 
 import java.io.IOException;
 import java.net.URL;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.Random;
 
 import org.jsonschema2pojo.exception.GenerationException;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.databind.jsonschema.SchemaAware;
 import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
-import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
-import com.fasterxml.jackson.databind.ser.std.NullSerializer;
 
+/**
+ * Infers a JSON schema from example JSON documents.
+ * <p>
+ * Examples are read as a stream of tokens and each value is classified
+ * directly from its token (no values are bound to Java objects) and merged
+ * into an {@link InferredType} model, so memory use depends on the shape of the
+ * examples rather than on their size. An example may hold several JSON values
+ * one after another (for instance newline-delimited JSON), in which case each
+ * value is treated as another example of the same type.
+ */
 public class SchemaGenerator {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
             .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
 
-    public ObjectNode schemaFromExample(URL example) {
+    /**
+     * Seeds array sampling so that the same examples always produce the same
+     * schema.
+     */
+    private static final long SAMPLING_SEED = 0L;
 
-        try {
-            JsonNode content = OBJECT_MAPPER.readTree(example);
-            return schemaFromExample(content);
-        } catch (IOException e) {
-            throw new GenerationException("Could not process JSON in source file", e);
-        }
+    private final GenerationConfig config;
 
+    public SchemaGenerator() {
+        this(new DefaultGenerationConfig());
     }
 
-    public ObjectNode schemaFromExample(JsonNode example) {
-
-        if (example.isObject()) {
-            return objectSchema(example);
-        } else if (example.isArray()) {
-            return arraySchema(example);
-        } else {
-            return simpleTypeSchema(example);
-        }
-
+    /**
+     * Creates a schema generator that honours the example related options of
+     * the given configuration (see
+     * {@link GenerationConfig#getExampleArraySampleSize()},
+     * {@link GenerationConfig#isInferExampleFormats()} and
+     * {@link GenerationConfig#getMaxExampleEnumValues()}).
+     *
+     * @param config
+     *            the configuration of the current generation run
+     */
+    public SchemaGenerator(GenerationConfig config) {
+        this.config = config;
     }
 
-    private ObjectNode objectSchema(JsonNode exampleObject) {
-
-        ObjectNode schema = OBJECT_MAPPER.createObjectNode();
-        schema.put("type", "object");
+    public ObjectNode schemaFromExample(URL example) {
 
-        ObjectNode properties = OBJECT_MAPPER.createObjectNode();
-        for (Iterator<String> iter = exampleObject.fieldNames(); iter.hasNext();) {
-            String property = iter.next();
-            properties.put(property, schemaFromExample(exampleObject.get(property)));
-        }
-        schema.put("properties", properties);
+        return schemaFromExamples(Collections.singletonList(example));
 
-        return schema;
     }
 
-    private ObjectNode arraySchema(JsonNode exampleArray) {
-        ObjectNode schema = OBJECT_MAPPER.createObjectNode();
-
-        schema.put("type", "array");
-
-        if (exampleArray.size() > 0) {
-
-            JsonNode exampleItem = exampleArray.get(0).isObject() ? mergeArrayItems(exampleArray) : exampleArray.get(0);
-
-            schema.put("items", schemaFromExample(exampleItem));
+    /**
+     * Infers a single schema that describes every JSON value found in the
+     * given examples.
+     *
+     * @param examples
+     *            the locations of one or more example documents
+     * @return a schema for the merged examples
+     */
+    public ObjectNode schemaFromExamples(Iterable<URL> examples) {
+
+        InferredType type = new InferredType(config);
+        Random random = new Random(SAMPLING_SEED);
+
+        for (URL example : examples) {
+            try {
+                JsonParser parser = OBJECT_MAPPER.getFactory().createParser(example);
+                try {
+                    if (!addValues(parser, type, random)) {
+                        throw new GenerationException("Could not process JSON in source file, no JSON value found in " + example);
+                    }
+                } finally {
+                    parser.close();
+                }
+            } catch (IOException e) {
+                throw new GenerationException("Could not process JSON in source file", e);
+            }
         }
 
-        return schema;
+        return type.toSchema(OBJECT_MAPPER.getNodeFactory());
+
     }
 
-    private JsonNode mergeArrayItems(JsonNode exampleArray) {
+    public ObjectNode schemaFromExample(JsonNode example) {
 
-        ObjectNode mergedItems = OBJECT_MAPPER.createObjectNode();
+        InferredType type = new InferredType(config);
 
-        for (JsonNode item : exampleArray) {
-            if (item.isObject()) {
-                mergedItems.putAll((ObjectNode) item);
+        try {
+            JsonParser parser = example.traverse(OBJECT_MAPPER);
+            try {
+                addValues(parser, type, new Random(SAMPLING_SEED));
+            } finally {
+                parser.close();
             }
+        } catch (IOException e) {
+            throw new GenerationException("Unable to generate a schema for this json example: " + example, e);
         }
 
-        return mergedItems;
-    }
-
-    private ObjectNode simpleTypeSchema(JsonNode exampleValue) {
-
-        try {
-
-            Object valueAsJavaType = OBJECT_MAPPER.treeToValue(exampleValue, Object.class);
+        return type.toSchema(OBJECT_MAPPER.getNodeFactory());
 
-            SchemaAware valueSerializer = getValueSerializer(valueAsJavaType);
+    }
 
-            return (ObjectNode) valueSerializer.getSchema(OBJECT_MAPPER.getSerializerProvider(), null);
-        } catch (JsonMappingException e) {
-            throw new GenerationException("Unable to generate a schema for this json example: " + exampleValue, e);
-        } catch (JsonProcessingException e) {
-            throw new GenerationException("Unable to generate a schema for this json example: " + exampleValue, e);
+    private boolean addValues(JsonParser parser, InferredType type, Random random) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() != null) {
+            addValue(parser, type, random);
+            found = true;
         }
-
+        return found;
     }
 
-    private SchemaAware getValueSerializer(Object valueAsJavaType) throws JsonMappingException {
-
-        SerializerProvider serializerProvider = new DefaultSerializerProvider.Impl().createInstance(OBJECT_MAPPER.getSerializationConfig(), BeanSerializerFactory.instance);
-
-        if (valueAsJavaType == null) {
-            return NullSerializer.instance;
-        } else if (valueAsJavaType instanceof Long) {
-            // longs are 'integers' in schema terms
-            JsonSerializer<Object> valueSerializer = serializerProvider.findValueSerializer(Integer.class, null);
-            return (SchemaAware) valueSerializer;
-        } else {
-            Class<? extends Object> javaTypeForValue = valueAsJavaType.getClass();
-            JsonSerializer<Object> valueSerializer = serializerProvider.findValueSerializer(javaTypeForValue, null);
-            return (SchemaAware) valueSerializer;
+    /**
+     * Merges the value at the current token (and any values nested in it) into
+     * the given type, leaving the parser on the last token of the value.
+     */
+    private void addValue(JsonParser parser, InferredType type, Random random) throws IOException {
+        switch (parser.getCurrentToken()) {
+            case START_OBJECT:
+                type.addObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    InferredType property = type.property(parser.getCurrentName());
+                    parser.nextToken();
+                    addValue(parser, property, random);
+                }
+                break;
+            case START_ARRAY:
+                type.addArray();
+                long index = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (isSampled(index++, random)) {
+                        addValue(parser, type.items(), random);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                break;
+            case VALUE_NUMBER_INT:
+                type.addInteger(parser.getNumberType());
+                break;
+            case VALUE_NUMBER_FLOAT:
+                type.addNumber();
+                break;
+            case VALUE_STRING:
+                type.addString(parser.getText());
+                break;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                type.addBoolean();
+                break;
+            case VALUE_NULL:
+                type.addNull();
+                break;
+            default:
+                throw new GenerationException("Unable to generate a schema for JSON token " + parser.getCurrentToken() + " at " + parser.getCurrentLocation());
         }
     }
 
+    /**
+     * Decides whether an array item is merged. When a sample size is set, the
+     * first items up to that size are always merged and each later item is
+     * merged with probability sampleSize / (index + 1), which is the chance
+     * reservoir sampling gives it of ending up in the sample.
+     */
+    private boolean isSampled(long index, Random random) {
+        int arraySampleSize = config.getExampleArraySampleSize();
+        return arraySampleSize <= 0 || index < arraySampleSize || random.nextDouble() * (index + 1) < arraySampleSize;
+    }
+
 }
@@ -20,21 +20,74 @@ import static org.apache.commons.lang3.StringUtils.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import org.jsonschema2pojo.exception.GenerationException;
 
 import com.fasterxml.jackson.databind.JsonNode;
 
+/**
+ * Creates and caches the schemas used during generation. The store is safe
+ * for use by many threads: each document is read and parsed only once, even
+ * when it is requested by many callers at the same time.
+ * <p>
+ * Optionally, the number of documents whose content is held in memory can be
+ * bounded (see {@link #setMaxCachedDocuments(int)}). Once the bound is
+ * exceeded, the content of the oldest documents whose schemas all have a
+ * generated Java type is released, and is read again if it is needed later.
+ */
 public class SchemaStore {
 
-    protected Map<URI, Schema> schemas = new HashMap<URI, Schema>();
+    protected ConcurrentMap<URI, Schema> schemas = new ConcurrentHashMap<URI, Schema>();
 
     protected FragmentResolver fragmentResolver;
     protected ContentResolver contentResolver;
 
+    protected volatile Set<URI> recordedDocuments;
+
+    private final ConcurrentMap<URI, FutureTask<Document>> documents = new ConcurrentHashMap<URI, FutureTask<Document>>();
+
+    private final Queue<URI> documentsInReadOrder = new ConcurrentLinkedQueue<URI>();
+
+    private volatile int maxCachedDocuments;
+
     public SchemaStore(GenerationConfig config) {
         this.fragmentResolver = new FragmentResolver(config.getOutputEncoding());
-        this.contentResolver = new ContentResolver();
+        this.contentResolver = new ContentResolver(config);
+        this.maxCachedDocuments = config.getMaxCachedDocuments();
+    }
+
+    /**
+     * Sets the maximum number of documents whose content is held in memory.
+     *
+     * @param maxCachedDocuments
+     *            the maximum number of documents, or <code>0</code> (or less)
+     *            for no limit
+     */
+    public void setMaxCachedDocuments(int maxCachedDocuments) {
+        this.maxCachedDocuments = maxCachedDocuments;
+    }
+
+    /**
+     * Sets the resolver used to read documents that are not yet held by this
+     * store.
+     *
+     * @param contentResolver
+     *            the content resolver
+     */
+    public void setContentResolver(ContentResolver contentResolver) {
+        this.contentResolver = contentResolver;
     }
 
     /**
@@ -46,21 +99,25 @@ public class SchemaStore {
      *            the id of the schema being created
      * @return a schema object containing the contents of the given path
      */
-    public synchronized Schema create(URI id) {
-
-        if (!schemas.containsKey(id)) {
+    public Schema create(URI id) {
 
-            JsonNode content = contentResolver.resolve(removeFragment(id));
+        Set<URI> recording = recordedDocuments;
+        if (recording != null && id.isAbsolute()) {
+            recording.add(removeFragment(id));
+        }
 
-            if (id.toString().contains("#")) {
-                JsonNode childContent = fragmentResolver.resolve(content, '#' + id.getFragment());
-                schemas.put(id, new Schema(id, childContent, content));
-            } else {
-                schemas.put(id, new Schema(id, content, content));
-            }
+        Schema schema = schemas.get(id);
+        if (schema != null) {
+            return schema;
         }
 
-        return schemas.get(id);
+        URI documentId = removeFragment(id);
+        String fragment = id.toString().contains("#") ? '#' + id.getFragment() : null;
+
+        schema = new DocumentSchema(id, documentId, fragment, loadDocument(documentId));
+
+        Schema existing = schemas.putIfAbsent(id, schema);
+        return existing != null ? existing : schema;
     }
 
     protected URI removeFragment(URI id) {
@@ -114,8 +171,15 @@ public class SchemaStore {
         }
 
         if (selfReferenceWithoutParentFile(parent, path) || substringBefore(stringId, "#").isEmpty()) {
-            schemas.put(id, new Schema(id, fragmentResolver.resolve(parent.getParentContent(), path), parent.getParentContent()));
-            return schemas.get(id);
+            Schema schema;
+            if (parent instanceof DocumentSchema) {
+                URI documentId = ((DocumentSchema) parent).documentId;
+                schema = new DocumentSchema(id, documentId, path, loadDocument(documentId));
+            } else {
+                schema = new Schema(id, fragmentResolver.resolve(parent.getParentContent(), path), parent.getParentContent());
+            }
+            schemas.put(id, schema);
+            return schema;
         }
 
         return create(id);
@@ -126,8 +190,225 @@ public class SchemaStore {
         return parent != null && (parent.getId() == null || parent.getId().toString().startsWith("#/")) && path.startsWith("#/");
     }
 
-    public synchronized void clearCache() {
+    /**
+     * Starts recording the documents requested from this store (whether they
+     * are already known or not), so that the documents a source schema depends
+     * on can be tracked.
+     */
+    public void startRecording() {
+        recordedDocuments = Collections.synchronizedSet(new TreeSet<URI>());
+    }
+
+    /**
+     * Stops recording requested documents.
+     *
+     * @return the URIs (without fragments) of all documents requested since
+     *         recording started
+     */
+    public Set<URI> stopRecording() {
+        Set<URI> recording = recordedDocuments;
+        recordedDocuments = null;
+        if (recording == null) {
+            return new TreeSet<URI>();
+        }
+        synchronized (recording) {
+            return new TreeSet<URI>(recording);
+        }
+    }
+
+    /**
+     * Gets the documents that have been requested from this store so far.
+     * Schemas that were created from a fragment of a document are represented
+     * by the document that contains them.
+     *
+     * @return the URIs (without fragments) of every document known to this
+     *         store
+     */
+    public Set<URI> getDocumentIds() {
+        Set<URI> documentIds = new TreeSet<URI>();
+        for (URI id : schemas.keySet()) {
+            if (id.isAbsolute()) {
+                documentIds.add(removeFragment(id));
+            }
+        }
+        return documentIds;
+    }
+
+    /**
+     * Gets the content of the document with the given URI, reading it if it
+     * is not already held by this store. Concurrent requests for a document
+     * that is not yet held cause it to be read only once.
+     *
+     * @param documentId
+     *            the URI of the document (without fragment)
+     * @return the content of the whole document
+     */
+    public JsonNode getDocument(URI documentId) {
+        return loadDocument(documentId).content;
+    }
+
+    private Document loadDocument(final URI documentId) {
+        FutureTask<Document> document = documents.get(documentId);
+
+        if (document == null) {
+            FutureTask<Document> newDocument = new FutureTask<Document>(new Callable<Document>() {
+                @Override
+                public Document call() {
+                    return new Document(contentResolver.resolve(documentId));
+                }
+            });
+
+            document = documents.putIfAbsent(documentId, newDocument);
+            if (document == null) {
+                document = newDocument;
+                newDocument.run();
+                documentsInReadOrder.add(documentId);
+                releaseDocumentsIfNecessary(documentId);
+            }
+        }
+
+        try {
+            return document.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GenerationException("Interrupted while reading " + documentId, e);
+        } catch (ExecutionException e) {
+            // allow a failed read to be attempted again
+            documents.remove(documentId, document);
+            documentsInReadOrder.remove(documentId);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new GenerationException(e.getCause());
+        }
+    }
+
+    public void clearCache() {
         schemas.clear();
+        documents.clear();
+        documentsInReadOrder.clear();
+    }
+
+    /**
+     * Releases the content of the oldest documents whose schemas all have a
+     * generated Java type, until no more than the maximum number of documents
+     * are held. The document that has just been read is always kept.
+     */
+    private synchronized void releaseDocumentsIfNecessary(URI documentJustRead) {
+        int maxDocuments = maxCachedDocuments;
+        if (maxDocuments <= 0 || documents.size() <= maxDocuments) {
+            return;
+        }
+
+        Set<URI> documentsInUse = new HashSet<URI>();
+        documentsInUse.add(documentJustRead);
+        for (Schema schema : schemas.values()) {
+            if (schema instanceof DocumentSchema && !schema.isGenerated()) {
+                documentsInUse.add(((DocumentSchema) schema).documentId);
+            }
+        }
+
+        Set<URI> releasedDocuments = new HashSet<URI>();
+        for (Iterator<URI> i = documentsInReadOrder.iterator(); i.hasNext() && documents.size() > maxDocuments;) {
+            URI documentId = i.next();
+            FutureTask<Document> document = documents.get(documentId);
+            if (document != null && document.isDone() && !documentsInUse.contains(documentId)) {
+                documents.remove(documentId);
+                i.remove();
+                releasedDocuments.add(documentId);
+            }
+        }
+
+        if (!releasedDocuments.isEmpty()) {
+            for (Schema schema : schemas.values()) {
+                if (schema instanceof DocumentSchema && releasedDocuments.contains(((DocumentSchema) schema).documentId)) {
+                    ((DocumentSchema) schema).release();
+                }
+            }
+        }
+    }
+
+    /**
+     * The content of a document held by this store, along with the nodes
+     * that fragments of the document have been resolved to.
+     */
+    private class Document {
+
+        private final JsonNode content;
+        private final ConcurrentMap<String, JsonNode> fragments = new ConcurrentHashMap<String, JsonNode>();
+
+        Document(JsonNode content) {
+            this.content = content;
+        }
+
+        JsonNode resolve(String fragment) {
+            if (fragment == null) {
+                return content;
+            }
+
+            JsonNode node = fragments.get(fragment);
+            if (node == null) {
+                node = fragmentResolver.resolve(content, fragment);
+                if (node != null) {
+                    fragments.putIfAbsent(fragment, node);
+                }
+            }
+            return node;
+        }
+
+    }
+
+    /**
+     * A schema read from a document held by this store (or a fragment of
+     * one). The content of the schema is read again from the store if it has
+     * been released.
+     */
+    private class DocumentSchema extends Schema {
+
+        private final URI documentId;
+        private final String fragment;
+
+        private volatile JsonNode content;
+        private volatile JsonNode parentContent;
+
+        DocumentSchema(URI id, URI documentId, String fragment, Document document) {
+            super(id, null, null);
+            this.documentId = documentId;
+            this.fragment = fragment;
+            load(document);
+        }
+
+        @Override
+        public JsonNode getContent() {
+            JsonNode content = this.content;
+            return content != null ? content : load(loadDocument(documentId));
+        }
+
+        @Override
+        public JsonNode getParentContent() {
+            JsonNode parentContent = this.parentContent;
+            if (parentContent != null) {
+                return parentContent;
+            }
+            Document document = loadDocument(documentId);
+            load(document);
+            return document.content;
+        }
+
+        private JsonNode load(Document document) {
+            JsonNode content = document.resolve(fragment);
+            this.content = content;
+            this.parentContent = document.content;
+            return content;
+        }
+
+        void release() {
+            this.content = null;
+            this.parentContent = null;
+        }
+
     }
 
 }
@@ -0,0 +1,105 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.FileUtils;
+
+import com.sun.codemodel.JPackage;
+
+/**
+ * A code writer that only writes a source file if its content differs from
+ * the file already present in the target directory. Files whose content is
+ * unchanged are left untouched, so their modification time is preserved and
+ * compilers and IDEs don't treat them as modified.
+ * <p>
+ * Every file that is generated (whether written or not) is recorded, so that
+ * files in the target directory that are no longer generated can be removed
+ * once the code model has been built (see {@link #removeStaleFiles()}).
+ */
+public class WriteIfChangedCodeWriter extends ParallelFileCodeWriter {
+
+    private final File target;
+
+    private final Set<File> generatedFiles = Collections.newSetFromMap(new ConcurrentHashMap<File, Boolean>());
+
+    public WriteIfChangedCodeWriter(File target, String encoding, int parallelism) throws IOException {
+        super(target, encoding, parallelism);
+        this.target = target;
+    }
+
+    /**
+     * Returns the file for the given package and file name, creating the
+     * package directory if necessary. Unlike the superclass, any existing file
+     * is kept, so that it can be compared with the new content.
+     */
+    @Override
+    protected File getFile(JPackage pkg, String fileName) throws IOException {
+        File dir = pkg.isUnnamed() ? target : new File(target, pkg.name().replace('.', File.separatorChar));
+        if (!dir.exists() && !dir.mkdirs() && !dir.isDirectory()) {
+            throw new IOException(dir + ": Can't create package directory");
+        }
+
+        File file = new File(dir, fileName);
+        generatedFiles.add(file);
+        return file;
+    }
+
+    @Override
+    protected void writeFile(File file, ByteBuffer bytes) throws IOException {
+        if (file.isFile() && file.length() == bytes.remaining()
+                && ByteBuffer.wrap(FileUtils.readFileToByteArray(file)).equals(bytes)) {
+            return;
+        }
+        super.writeFile(file, bytes);
+    }
+
+    /**
+     * Deletes every file in the target directory that was not generated by
+     * this code writer, along with any directories left empty. Should only be
+     * called once the code model has been built (and this writer closed).
+     */
+    public void removeStaleFiles() {
+        File[] children = target.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                removeStaleFiles(child);
+            }
+        }
+    }
+
+    @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = "RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
+    private void removeStaleFiles(File file) {
+        if (file.isDirectory()) {
+            for (File child : file.listFiles()) {
+                removeStaleFiles(child);
+            }
+            if (file.list().length == 0) {
+                file.delete();
+            }
+        } else if (!generatedFiles.contains(file)) {
+            file.delete();
+        }
+    }
+
+}
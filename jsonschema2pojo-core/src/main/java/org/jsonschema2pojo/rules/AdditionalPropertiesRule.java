@@ -16,6 +16,7 @@
 
 package org.jsonschema2pojo.rules;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -24,8 +25,10 @@ import org.jsonschema2pojo.Schema;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sun.codemodel.JBlock;
 import com.sun.codemodel.JClass;
+import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JFieldRef;
 import com.sun.codemodel.JFieldVar;
 import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
@@ -69,6 +72,12 @@ public class AdditionalPropertiesRule implements Rule<JDefinedClass, JDefinedCla
      * additionalProperties schema provided. If the schema does not specify the
      * javaType property, the name of the newly generated type will be derived
      * from the nodeName and the suffix 'Property'.
+     * <p>
+     * If lazy additional properties are enabled (see
+     * {@link org.jsonschema2pojo.GenerationConfig#isUseLazyAdditionalProperties()}),
+     * the map starts out as the shared empty map, holds a first property in a
+     * singleton map and is only copied into a {@link HashMap} when a second
+     * property is added.
      *
      * @param nodeName
      *            the name of the schema node for which the additionalProperties
@@ -129,7 +138,11 @@ public class AdditionalPropertiesRule implements Rule<JDefinedClass, JDefinedCla
 
         ruleFactory.getAnnotator().additionalPropertiesField(field, jclass, "additionalProperties");
 
-        field.init(JExpr._new(propertiesMapImplType));
+        if (ruleFactory.getGenerationConfig().isUseLazyAdditionalProperties()) {
+            field.init(jclass.owner().ref(Collections.class).staticInvoke("emptyMap"));
+        } else {
+            field.init(JExpr._new(propertiesMapImplType));
+        }
 
         return field;
     }
@@ -142,9 +155,26 @@ public class AdditionalPropertiesRule implements Rule<JDefinedClass, JDefinedCla
         JVar nameParam = setter.param(String.class, "name");
         JVar valueParam = setter.param(propertyType, "value");
 
-        JInvocation mapInvocation = setter.body().invoke(JExpr._this().ref(field), "put");
-        mapInvocation.arg(nameParam);
-        mapInvocation.arg(valueParam);
+        if (ruleFactory.getGenerationConfig().isUseLazyAdditionalProperties()) {
+            addLazyPut(jclass, setter.body(), propertyType, field, nameParam, valueParam);
+        } else {
+            JInvocation mapInvocation = setter.body().invoke(JExpr._this().ref(field), "put");
+            mapInvocation.arg(nameParam);
+            mapInvocation.arg(valueParam);
+        }
+    }
+
+    private void addLazyPut(JDefinedClass jclass, JBlock body, JType propertyType, JFieldVar field, JVar nameParam, JVar valueParam) {
+        JFieldRef map = JExpr._this().ref(field);
+
+        JConditional isEmpty = body._if(map.invoke("isEmpty"));
+        isEmpty._then().assign(map, jclass.owner().ref(Collections.class).staticInvoke("singletonMap").arg(nameParam).arg(valueParam));
+
+        JBlock notEmpty = isEmpty._else();
+        JClass propertiesMapImplType = jclass.owner().ref(HashMap.class).narrow(jclass.owner().ref(String.class), propertyType.boxify());
+        notEmpty._if(map._instanceof(jclass.owner().ref(HashMap.class)).not())._then()
+                .assign(map, JExpr._new(propertiesMapImplType).arg(map));
+        notEmpty.invoke(map, "put").arg(nameParam).arg(valueParam);
     }
 
     private JMethod addGetter(JDefinedClass jclass, JFieldVar field) {
@@ -163,9 +193,13 @@ public class AdditionalPropertiesRule implements Rule<JDefinedClass, JDefinedCla
         JVar valueParam = builder.param(propertyType, "value");
 
         JBlock body = builder.body();
-        JInvocation mapInvocation = body.invoke(JExpr._this().ref(field), "put");
-        mapInvocation.arg(nameParam);
-        mapInvocation.arg(valueParam);
+        if (ruleFactory.getGenerationConfig().isUseLazyAdditionalProperties()) {
+            addLazyPut(jclass, body, propertyType, field, nameParam, valueParam);
+        } else {
+            JInvocation mapInvocation = body.invoke(JExpr._this().ref(field), "put");
+            mapInvocation.arg(nameParam);
+            mapInvocation.arg(valueParam);
+        }
         body._return(JExpr._this());
     }
 
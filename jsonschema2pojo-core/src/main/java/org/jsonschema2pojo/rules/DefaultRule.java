@@ -26,17 +26,24 @@ import com.sun.codemodel.JExpr;
 import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JFieldVar;
 import com.sun.codemodel.JInvocation;
+import com.sun.codemodel.JMod;
 import com.sun.codemodel.JType;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import static org.apache.commons.lang3.StringUtils.*;
 import org.joda.time.DateTime;
@@ -52,6 +59,11 @@ import org.jsonschema2pojo.Schema;
  */
 public class DefaultRule implements Rule<JFieldVar, JFieldVar> {
 
+    private static final Set<String> SHAREABLE_DEFAULT_TYPES = new HashSet<String>(Arrays.asList(
+            BigDecimal.class.getName(), URI.class.getName(), Pattern.class.getName(),
+            Integer.class.getName(), Long.class.getName(), Double.class.getName(), Float.class.getName(),
+            DateTime.class.getName(), LocalDate.class.getName(), LocalTime.class.getName()));
+
     private final RuleFactory ruleFactory;
 
     public DefaultRule(RuleFactory ruleFactory) {
@@ -89,10 +101,10 @@ public class DefaultRule implements Rule<JFieldVar, JFieldVar> {
             field.init(JExpr._null());
 
         } else if (fieldType.startsWith(List.class.getName())) {
-            field.init(getDefaultList(field.type(), node));
+            field.init(unmodifiableIfConstant(field, "unmodifiableList", getDefaultList(field.type(), node)));
 
         } else if (fieldType.startsWith(Set.class.getName())) {
-            field.init(getDefaultSet(field.type(), node));
+            field.init(unmodifiableIfConstant(field, "unmodifiableSet", getDefaultSet(field.type(), node)));
         } else if (fieldType.startsWith(String.class.getName()) ) {
             if (node != null) {
                 field.init(getDefaultValue(field.type(), node));
@@ -109,6 +121,18 @@ public class DefaultRule implements Rule<JFieldVar, JFieldVar> {
         return field;
     }
 
+    /**
+     * A collection default held in a static final field is shared by every
+     * instance, so it is wrapped to make sure it is never modified.
+     */
+    private JExpression unmodifiableIfConstant(JFieldVar field, String wrapperMethod, JExpression defaultCollection) {
+        int constantMods = JMod.STATIC | JMod.FINAL;
+        if ((field.mods().getValue() & constantMods) != constantMods) {
+            return defaultCollection;
+        }
+        return field.type().owner().ref(Collections.class).staticInvoke(wrapperMethod).arg(defaultCollection);
+    }
+
     private JExpression getDefaultValue(JType fieldType, JsonNode node) {
 
         fieldType = fieldType.unboxify();
@@ -143,6 +167,12 @@ public class DefaultRule implements Rule<JFieldVar, JFieldVar> {
             stringParseableTypeInstance.arg(JExpr.lit(node.asText()));
             return stringParseableTypeInstance;
 
+        } else if (fieldType.fullName().equals(URI.class.getName()) && isUseStaticDefaultConstants() && isValidUri(node.asText())) {
+            return ((JClass) fieldType).staticInvoke("create").arg(JExpr.lit(node.asText()));
+
+        } else if (fieldType.fullName().equals(Pattern.class.getName()) && isUseStaticDefaultConstants() && isValidPattern(node.asText())) {
+            return ((JClass) fieldType).staticInvoke("compile").arg(JExpr.lit(node.asText()));
+
         } else if (fieldType.fullName().equals(long.class.getName())) {
             return JExpr.lit(Long.parseLong(node.asText()));
 
@@ -160,6 +190,68 @@ public class DefaultRule implements Rule<JFieldVar, JFieldVar> {
 
     }
 
+    /**
+     * Whether the default value given by the node can be created once and
+     * shared by every instance of the generated type. This is the case for
+     * immutable types whose default is more than a literal: BigDecimal, URI,
+     * Pattern, boxed numbers, enums and the Joda date/time types. A
+     * {@link Date} default is mutable, so each instance gets its own copy. An
+     * invalid URI or Pattern default is left to the per-instance default,
+     * rather than held in a null constant.
+     *
+     * @param fieldType
+     *            the java type of the field that has the default
+     * @param node
+     *            the default node (may be null)
+     * @return true if the default can be held in a static constant
+     */
+    static boolean isShareableDefault(JType fieldType, JsonNode node) {
+        if (node == null || node.isNull() || isEmpty(node.asText()) || fieldType.isPrimitive()) {
+            return false;
+        }
+
+        if (fieldType instanceof JDefinedClass && ((JDefinedClass) fieldType).getClassType().equals(ClassType.ENUM)) {
+            return true;
+        }
+
+        if (fieldType.fullName().equals(URI.class.getName())) {
+            return isValidUri(node.asText());
+        }
+
+        if (fieldType.fullName().equals(Pattern.class.getName())) {
+            return isValidPattern(node.asText());
+        }
+
+        return SHAREABLE_DEFAULT_TYPES.contains(fieldType.fullName());
+    }
+
+    /**
+     * URI and Pattern defaults have always been left null, so they are only
+     * created (once, in a static constant) when static default constants are
+     * enabled.
+     */
+    private boolean isUseStaticDefaultConstants() {
+        return ruleFactory.getGenerationConfig().isUseStaticDefaultConstants();
+    }
+
+    private static boolean isValidUri(String uri) {
+        try {
+            new URI(uri);
+            return true;
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValidPattern(String regex) {
+        try {
+            Pattern.compile(regex);
+            return true;
+        } catch (PatternSyntaxException e) {
+            return false;
+        }
+    }
+
     private Class<?> getDateTimeType() {
         return ruleFactory.getGenerationConfig().isUseJodaDates() ? DateTime.class : Date.class;
     }
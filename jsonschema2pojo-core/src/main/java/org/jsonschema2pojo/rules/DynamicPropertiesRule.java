@@ -19,6 +19,7 @@ package org.jsonschema2pojo.rules;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sun.codemodel.JBlock;
 import com.sun.codemodel.JClass;
+import com.sun.codemodel.JClassAlreadyExistsException;
 import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JExpr;
@@ -33,11 +34,17 @@ import com.sun.codemodel.JTypeVar;
 import com.sun.codemodel.JVar;
 
 import org.jsonschema2pojo.Schema;
+import org.jsonschema2pojo.exception.GenerationException;
 import org.jsonschema2pojo.util.LanguageFeatures;
 import org.jsonschema2pojo.util.Models;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import static com.sun.codemodel.JExpr.FALSE;
 import static com.sun.codemodel.JExpr._new;
@@ -65,6 +72,13 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
     public static final String BUILDER_NAME = "with";
     public static final String DEFINED_SETTER_NAME = "declaredProperty";
     public static final String DEFINED_GETTER_NAME = "declaredPropertyOrNotFound";
+    public static final String INDEX_OF_NAME = "propertyIndex";
+    public static final String COUNT_NAME = "propertyCount";
+    public static final String NAME_AT_NAME = "propertyName";
+    public static final String INDEXED_GETTER_NAME = "getByIndex";
+    public static final String INDEXED_SETTER_NAME = "setByIndex";
+    public static final String VISIT_NAME = "forEachProperty";
+    public static final String VISITOR_NAME = "PropertyVisitor";
 
     private RuleFactory ruleFactory;
 
@@ -107,7 +121,11 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
 
         if (ruleFactory.getGenerationConfig().isIncludeAccessors() ||
                 ruleFactory.getGenerationConfig().isGenerateBuilders()) {
-            if (LanguageFeatures.canUseJava7(ruleFactory.getGenerationConfig())) {
+            if (ruleFactory.getGenerationConfig().isIncludeAccessors() && ruleFactory.getGenerationConfig().isUseIndexedDynamicAccessors()) {
+                PropertyIndex index = addPropertyIndex(jclass, node);
+                addInternalSetMethodIndexed(jclass, index);
+                addInternalGetMethodIndexed(jclass, index);
+            } else if (LanguageFeatures.canUseJava7(ruleFactory.getGenerationConfig())) {
                 addInternalSetMethodJava7(jclass, node, currentSchema);
                 addInternalGetMethodJava7(jclass, node, currentSchema);
             } else {
@@ -255,8 +273,7 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
         JMethod getAdditionalProperties = jclass.getMethod("getAdditionalProperties", new JType[] {});
         if (getAdditionalProperties != null) {
             JType additionalPropertiesType = ((JClass) (getAdditionalProperties.type())).getTypeParameters().get(1);
-            notFound.add(invoke(getAdditionalProperties).invoke("put").arg(nameParam)
-                    .arg(cast(additionalPropertiesType, valueParam)));
+            notFound.add(putAdditionalProperty(getAdditionalProperties, nameParam, cast(additionalPropertiesType, valueParam)));
         }
         // else throw exception.
         else {
@@ -282,8 +299,7 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
         JMethod getAdditionalProperties = jclass.getMethod("getAdditionalProperties", new JType[] {});
         if (getAdditionalProperties != null) {
             JType additionalPropertiesType = ((JClass) (getAdditionalProperties.type())).getTypeParameters().get(1);
-            notFound.add(invoke(getAdditionalProperties).invoke("put").arg(nameParam)
-                    .arg(cast(additionalPropertiesType, valueParam)));
+            notFound.add(putAdditionalProperty(getAdditionalProperties, nameParam, cast(additionalPropertiesType, valueParam)));
         }
         // else throw exception.
         else {
@@ -360,6 +376,214 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
         return method;
     }
 
+    /**
+     * Numbers every property of the class, inherited properties first (so
+     * that a subclass keeps the ordinals of its parent), and adds methods to
+     * look properties up by name or ordinal. Each class covers its whole
+     * hierarchy, so no lookup needs to call up to the superclass.
+     * <p>
+     * The index is kept as the metadata of the generated class, where the
+     * index of a subclass (always generated after its parent) finds it.
+     */
+    private PropertyIndex addPropertyIndex(JDefinedClass jclass, JsonNode propertiesNode) {
+        PropertyIndex parentIndex = getPropertyIndex(jclass._extends());
+
+        Map<String, IndexedProperty> properties = new LinkedHashMap<String, IndexedProperty>();
+        if (parentIndex != null) {
+            for (IndexedProperty property : parentIndex.properties) {
+                properties.put(property.name, property);
+            }
+        }
+        if (propertiesNode != null) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = propertiesNode.fields(); fields.hasNext();) {
+                Map.Entry<String, JsonNode> property = fields.next();
+                String propertyName = property.getKey();
+                JsonNode node = property.getValue();
+                String fieldName = ruleFactory.getNameHelper().getPropertyName(propertyName, node);
+                JType propertyType = jclass.fields().get(fieldName).type();
+                JMethod getter = jclass.getMethod(getGetterName(propertyName, propertyType, node), new JType[] {});
+                JMethod setter = jclass.getMethod(getSetterName(propertyName, node), new JType[] { propertyType });
+                // a redeclared property keeps the ordinal it has in the parent
+                properties.put(propertyName, new IndexedProperty(propertyName, propertyType, getter, setter));
+            }
+        }
+
+        JClass visitorType = parentIndex != null ? parentIndex.visitorType : addVisitorInterface(jclass);
+        PropertyIndex index = new PropertyIndex(new ArrayList<IndexedProperty>(properties.values()), visitorType);
+        jclass.metadata = index;
+
+        addIndexOfMethod(jclass, index);
+        addCountMethod(jclass, index);
+        addNameAtMethod(jclass, index);
+        addIndexedGetMethod(jclass, index);
+        addIndexedSetMethod(jclass, index);
+        addVisitMethod(jclass, index);
+
+        return index;
+    }
+
+    private static PropertyIndex getPropertyIndex(JClass jclass) {
+        if (jclass instanceof JDefinedClass && ((JDefinedClass) jclass).metadata instanceof PropertyIndex) {
+            return (PropertyIndex) ((JDefinedClass) jclass).metadata;
+        }
+        return null;
+    }
+
+    private JClass addVisitorInterface(JDefinedClass jclass) {
+        try {
+            JDefinedClass visitor = jclass._interface(PUBLIC, ruleFactory.getClassNameReservations().reserve(jclass, VISITOR_NAME));
+            visitor.javadoc().add("Receives the name and value of each property, in index order.");
+            JMethod visit = visitor.method(PUBLIC, jclass.owner().VOID, "visit");
+            visit.param(String.class, "name");
+            visit.param(Object.class, "value");
+            return visitor;
+        } catch (JClassAlreadyExistsException e) {
+            throw new GenerationException(e);
+        }
+    }
+
+    private void addIndexOfMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, jclass.owner().INT, INDEX_OF_NAME);
+        JVar nameParam = method.param(String.class, "name");
+        method.javadoc().addReturn().append("the index of the named property, or -1 if there is no such property");
+        JBlock body = method.body();
+        body._if(nameParam.eq(JExpr._null()))._then()._return(lit(-1));
+
+        // names whose hash codes collide share a case and are told apart with equals
+        SortedMap<Integer, List<Integer>> ordinalsByHash = new TreeMap<Integer, List<Integer>>();
+        for (int i = 0; i < index.properties.size(); i++) {
+            int hash = index.properties.get(i).name.hashCode();
+            List<Integer> ordinals = ordinalsByHash.get(hash);
+            if (ordinals == null) {
+                ordinals = new ArrayList<Integer>();
+                ordinalsByHash.put(hash, ordinals);
+            }
+            ordinals.add(i);
+        }
+
+        if (!ordinalsByHash.isEmpty()) {
+            JSwitch hashSwitch = body._switch(nameParam.invoke("hashCode"));
+            for (Map.Entry<Integer, List<Integer>> entry : ordinalsByHash.entrySet()) {
+                JBlock caseBody = hashSwitch._case(lit(entry.getKey())).body();
+                for (int ordinal : entry.getValue()) {
+                    caseBody._if(lit(index.properties.get(ordinal).name).invoke("equals").arg(nameParam))._then()._return(lit(ordinal));
+                }
+                caseBody._break();
+            }
+        }
+        body._return(lit(-1));
+    }
+
+    private void addCountMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, jclass.owner().INT, COUNT_NAME);
+        method.body()._return(lit(index.properties.size()));
+    }
+
+    private void addNameAtMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, String.class, NAME_AT_NAME);
+        JVar indexParam = method.param(jclass.owner().INT, "index");
+        JSwitch indexSwitch = method.body()._switch(indexParam);
+        for (int i = 0; i < index.properties.size(); i++) {
+            indexSwitch._case(lit(i)).body()._return(lit(index.properties.get(i).name));
+        }
+        indexSwitch._default().body()._throw(indexOutOfBoundsInvocation(jclass, indexParam));
+    }
+
+    private void addIndexedGetMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, Object.class, INDEXED_GETTER_NAME);
+        JVar indexParam = method.param(jclass.owner().INT, "index");
+        JSwitch indexSwitch = method.body()._switch(indexParam);
+        for (int i = 0; i < index.properties.size(); i++) {
+            indexSwitch._case(lit(i)).body()._return(invoke(index.properties.get(i).getter));
+        }
+        indexSwitch._default().body()._throw(indexOutOfBoundsInvocation(jclass, indexParam));
+    }
+
+    private void addIndexedSetMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, jclass.owner().VOID, INDEXED_SETTER_NAME);
+        JVar indexParam = method.param(jclass.owner().INT, "index");
+        JVar valueParam = method.param(Object.class, "value");
+        JSwitch indexSwitch = method.body()._switch(indexParam);
+        for (int i = 0; i < index.properties.size(); i++) {
+            IndexedProperty property = index.properties.get(i);
+            JBlock caseBody = indexSwitch._case(lit(i)).body();
+            JConditional isInstance = caseBody._if(valueParam._instanceof(property.type.boxify().erasure()));
+            isInstance._then().invoke(property.setter).arg(cast(property.type.boxify(), valueParam));
+            isInstance._else()._throw(illegalArgumentInvocation(jclass, property.name, property.type, valueParam));
+            caseBody._break();
+        }
+        indexSwitch._default().body()._throw(indexOutOfBoundsInvocation(jclass, indexParam));
+    }
+
+    private void addVisitMethod(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PUBLIC, jclass.owner().VOID, VISIT_NAME);
+        JVar visitorParam = method.param(index.visitorType, "visitor");
+        JBlock body = method.body();
+        for (IndexedProperty property : index.properties) {
+            body.invoke(visitorParam, "visit").arg(lit(property.name)).arg(invoke(property.getter));
+        }
+    }
+
+    private JMethod addInternalGetMethodIndexed(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PROTECTED, jclass.owner()._ref(Object.class), DEFINED_GETTER_NAME);
+        JVar nameParam = method.param(String.class, "name");
+        JVar notFoundParam = method.param(jclass.owner()._ref(Object.class), "notFoundValue");
+        JBlock body = method.body();
+        JVar indexVar = body.decl(jclass.owner().INT, "index", invoke(INDEX_OF_NAME).arg(nameParam));
+        JBlock notFound = body._if(indexVar.lt(lit(0)))._then();
+        JDefinedClass unindexedParent = getUnindexedParent(jclass);
+        if (unindexedParent != null) {
+            JMethod parentMethod = unindexedParent.getMethod(DEFINED_GETTER_NAME,
+                    new JType[] { unindexedParent.owner()._ref(String.class), unindexedParent.owner()._ref(Object.class) });
+            notFound._return(_super().invoke(parentMethod).arg(nameParam).arg(notFoundParam));
+        } else {
+            notFound._return(notFoundParam);
+        }
+        body._return(invoke(INDEXED_GETTER_NAME).arg(indexVar));
+        return method;
+    }
+
+    private JMethod addInternalSetMethodIndexed(JDefinedClass jclass, PropertyIndex index) {
+        JMethod method = jclass.method(PROTECTED, jclass.owner().BOOLEAN, DEFINED_SETTER_NAME);
+        JVar nameParam = method.param(String.class, "name");
+        JVar valueParam = method.param(Object.class, "value");
+        JBlock body = method.body();
+        JVar indexVar = body.decl(jclass.owner().INT, "index", invoke(INDEX_OF_NAME).arg(nameParam));
+        JBlock notFound = body._if(indexVar.lt(lit(0)))._then();
+        JDefinedClass unindexedParent = getUnindexedParent(jclass);
+        if (unindexedParent != null) {
+            JMethod parentMethod = unindexedParent.getMethod(DEFINED_SETTER_NAME,
+                    new JType[] { unindexedParent.owner()._ref(String.class), unindexedParent.owner()._ref(Object.class) });
+            notFound._return(_super().invoke(parentMethod).arg(nameParam).arg(valueParam));
+        } else {
+            notFound._return(FALSE);
+        }
+        body.invoke(INDEXED_SETTER_NAME).arg(indexVar).arg(valueParam);
+        body._return(JExpr.TRUE);
+        return method;
+    }
+
+    /**
+     * @return the generated superclass, if it has dynamic accessors that were
+     *         not indexed (so unknown names must still be passed up to it)
+     */
+    private JDefinedClass getUnindexedParent(JDefinedClass jclass) {
+        JClass extendsType = jclass._extends();
+        if (extendsType instanceof JDefinedClass && getPropertyIndex(extendsType) == null
+                && ((JDefinedClass) extendsType).getMethod(DEFINED_GETTER_NAME, new JType[] { jclass.owner()._ref(String.class), jclass.owner()._ref(Object.class) }) != null) {
+            return (JDefinedClass) extendsType;
+        }
+        return null;
+    }
+
+    private JInvocation putAdditionalProperty(JMethod getAdditionalProperties, JVar nameParam, JExpression value) {
+        if (ruleFactory.getGenerationConfig().isUseLazyAdditionalProperties()) {
+            // the map may still be the shared empty map, so it must not be written to directly
+            return invoke("setAdditionalProperty").arg(nameParam).arg(value);
+        }
+        return invoke(getAdditionalProperties).invoke("put").arg(nameParam).arg(value);
+    }
+
     private JMethod getInternalSetMethod(JDefinedClass jclass, JsonNode propertiesNode, Schema currentSchema) {
         return jclass.getMethod(DEFINED_SETTER_NAME,
                 new JType[] { jclass.owner().ref(String.class), jclass.owner().ref(Object.class) });
@@ -396,6 +620,11 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
                         .plus(valueVar.invoke("getClass").invoke("toString")));
     }
 
+    private JInvocation indexOutOfBoundsInvocation(JDefinedClass jclass, JVar index) {
+        return _new(jclass.owner()._ref(IndexOutOfBoundsException.class))
+                .arg(jclass.owner().ref(String.class).staticInvoke("valueOf").arg(index));
+    }
+
     private String getSetterName(String propertyName, JsonNode node) {
         return ruleFactory.getNameHelper().getSetterName(propertyName, node);
     }
@@ -403,4 +632,30 @@ public class DynamicPropertiesRule implements Rule<JDefinedClass, JDefinedClass>
     private String getGetterName(String propertyName, JType type, JsonNode node) {
         return ruleFactory.getNameHelper().getGetterName(propertyName, type, node);
     }
+
+    private static class IndexedProperty {
+
+        private final String name;
+        private final JType type;
+        private final JMethod getter;
+        private final JMethod setter;
+
+        IndexedProperty(String name, JType type, JMethod getter, JMethod setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    private static class PropertyIndex {
+
+        private final List<IndexedProperty> properties;
+        private final JClass visitorType;
+
+        PropertyIndex(List<IndexedProperty> properties, JClass visitorType) {
+            this.properties = properties;
+            this.visitorType = visitorType;
+        }
+    }
 }
@@ -27,11 +27,13 @@ import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JEnumConstant;
 import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JFieldVar;
 import com.sun.codemodel.JForEach;
 import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
+import com.sun.codemodel.JSwitch;
 import com.sun.codemodel.JType;
 import com.sun.codemodel.JVar;
 
@@ -44,8 +46,11 @@ import org.jsonschema2pojo.util.NameHelper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javax.annotation.Generated;
 
@@ -71,6 +76,12 @@ public class EnumRule implements Rule<JClassContainer, JType> {
 
     private static final String VALUE_FIELD_NAME = "value";
 
+    /**
+     * Beyond this many constants a switch lookup risks exceeding the size
+     * limit of a method, so a lazily initialized map is used instead.
+     */
+    private static final int MAX_SWITCH_LOOKUP_CONSTANTS = 1000;
+
     private final RuleFactory ruleFactory;
 
     protected EnumRule(RuleFactory ruleFactory) {
@@ -121,8 +132,12 @@ public class EnumRule implements Rule<JClassContainer, JType> {
 
         JFieldVar valueField = addValueField(_enum);
         addToString(_enum, valueField);
-        addEnumConstants(node.path("enum"), _enum, node.path("javaEnumNames"));
-        addFactoryMethod(_enum);
+        Map<String, JEnumConstant> constants = addEnumConstants(node.path("enum"), _enum, node.path("javaEnumNames"));
+        if (ruleFactory.getGenerationConfig().isUseEnumSwitchLookup()) {
+            addLookupMethods(_enum, constants);
+        } else {
+            addFactoryMethod(_enum);
+        }
 
         return _enum;
     }
@@ -139,12 +154,14 @@ public class EnumRule implements Rule<JClassContainer, JType> {
                     throw new GenerationException("Primitive type '" + fqn + "' cannot be used as an enum.");
                 }
 
-                try {
-                    Class<?> existingClass = Thread.currentThread().getContextClassLoader().loadClass(fqn);
+                Class<?> existingClass = ruleFactory.getClassLookupCache().loadClass(fqn);
+                if (existingClass != null) {
                     throw new ClassAlreadyExistsException(container.owner().ref(existingClass));
-                } catch (ClassNotFoundException e) {
-                    return container.owner()._class(fqn, ClassType.ENUM);
                 }
+
+                JDefinedClass _enum = container.owner()._class(fqn, ClassType.ENUM);
+                ruleFactory.getClassNameReservations().register(_enum);
+                return _enum;
             } else {
                 try {
                     return container._class(modifiers, getEnumName(nodeName, node, container), ClassType.ENUM);
@@ -178,14 +195,18 @@ public class EnumRule implements Rule<JClassContainer, JType> {
     }
 
     private JFieldVar addQuickLookupMap(JDefinedClass _enum) {
+        return addQuickLookupMap(_enum, _enum, JExpr.invoke("values"));
+    }
+
+    private JFieldVar addQuickLookupMap(JDefinedClass _enum, JDefinedClass container, JExpression values) {
 
         JClass lookupType = _enum.owner().ref(Map.class).narrow(_enum.owner().ref(String.class), _enum);
-        JFieldVar lookupMap = _enum.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, lookupType, "CONSTANTS");
+        JFieldVar lookupMap = container.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, lookupType, "CONSTANTS");
 
         JClass lookupImplType = _enum.owner().ref(HashMap.class).narrow(_enum.owner().ref(String.class), _enum);
         lookupMap.init(JExpr._new(lookupImplType));
 
-        JForEach forEach = _enum.init().forEach(_enum, "c", JExpr.invoke("values"));
+        JForEach forEach = container.init().forEach(_enum, "c", values);
         JInvocation put = forEach.body().invoke(lookupMap, "put");
         put.arg(forEach.var().ref("value"));
         put.arg(forEach.var());
@@ -193,6 +214,75 @@ public class EnumRule implements Rule<JClassContainer, JType> {
         return lookupMap;
     }
 
+    /**
+     * Adds a <code>tryFromValue(String)</code> method that returns null for
+     * unknown values, and a <code>fromValue(String)</code> method (the Jackson
+     * creator) that throws {@link IllegalArgumentException} instead. Neither
+     * needs a map to be built when the enum is loaded: values are matched by a
+     * switch on their hash code or, for enums too large for a single method,
+     * a map held by a nested class that is only initialized on first use.
+     */
+    private void addLookupMethods(JDefinedClass _enum, Map<String, JEnumConstant> constants) {
+        JMethod tryFromValue = _enum.method(JMod.PUBLIC | JMod.STATIC, _enum, "tryFromValue");
+        JVar tryValueParam = tryFromValue.param(String.class, "value");
+        tryFromValue.javadoc().addReturn().append("the constant with the given value, or null if there is no such constant");
+
+        JBlock tryBody = tryFromValue.body();
+        tryBody._if(tryValueParam.eq(JExpr._null()))._then()._return(JExpr._null());
+
+        if (constants.size() <= MAX_SWITCH_LOOKUP_CONSTANTS) {
+            addSwitchLookup(tryBody, tryValueParam, constants);
+            tryBody._return(JExpr._null());
+        } else {
+            JDefinedClass holder;
+            try {
+                holder = _enum._class(JMod.PRIVATE | JMod.STATIC, "ConstantsHolder");
+            } catch (JClassAlreadyExistsException e) {
+                throw new GenerationException(e);
+            }
+            JFieldVar lookupMap = addQuickLookupMap(_enum, holder, _enum.staticInvoke("values"));
+            tryBody._return(holder.staticRef(lookupMap).invoke("get").arg(tryValueParam));
+        }
+
+        JMethod fromValue = _enum.method(JMod.PUBLIC | JMod.STATIC, _enum, "fromValue");
+        JVar valueParam = fromValue.param(String.class, "value");
+
+        JBlock body = fromValue.body();
+        JVar constant = body.decl(_enum, "constant");
+        constant.init(_enum.staticInvoke(tryFromValue).arg(valueParam));
+
+        JConditional _if = body._if(constant.eq(JExpr._null()));
+
+        JInvocation illegalArgumentException = JExpr._new(_enum.owner().ref(IllegalArgumentException.class));
+        illegalArgumentException.arg(valueParam);
+        _if._then()._throw(illegalArgumentException);
+        _if._else()._return(constant);
+
+        ruleFactory.getAnnotator().enumCreatorMethod(fromValue);
+    }
+
+    private void addSwitchLookup(JBlock body, JVar valueParam, Map<String, JEnumConstant> constants) {
+        // values whose hash codes collide share a case and are told apart with equals
+        SortedMap<Integer, List<String>> valuesByHash = new TreeMap<Integer, List<String>>();
+        for (String value : constants.keySet()) {
+            List<String> values = valuesByHash.get(value.hashCode());
+            if (values == null) {
+                values = new ArrayList<String>();
+                valuesByHash.put(value.hashCode(), values);
+            }
+            values.add(value);
+        }
+
+        JSwitch _switch = body._switch(valueParam.invoke("hashCode"));
+        for (Map.Entry<Integer, List<String>> entry : valuesByHash.entrySet()) {
+            JBlock caseBody = _switch._case(JExpr.lit(entry.getKey())).body();
+            for (String value : entry.getValue()) {
+                caseBody._if(JExpr.lit(value).invoke("equals").arg(valueParam))._then()._return(constants.get(value));
+            }
+            caseBody._break();
+        }
+    }
+
     private JFieldVar addValueField(JDefinedClass _enum) {
         JFieldVar valueField = _enum.field(JMod.PRIVATE | JMod.FINAL, String.class, VALUE_FIELD_NAME);
 
@@ -214,7 +304,8 @@ public class EnumRule implements Rule<JClassContainer, JType> {
         toString.annotate(Override.class);
     }
 
-    private void addEnumConstants(JsonNode node, JDefinedClass _enum, JsonNode customNames) {
+    private Map<String, JEnumConstant> addEnumConstants(JsonNode node, JDefinedClass _enum, JsonNode customNames) {
+        Map<String, JEnumConstant> constants = new LinkedHashMap<String, JEnumConstant>();
         for (int i = 0; i < node.size(); i++) {
             JsonNode value = node.path(i);
 
@@ -222,8 +313,10 @@ public class EnumRule implements Rule<JClassContainer, JType> {
                 JEnumConstant constant = _enum.enumConstant(getConstantName(value.asText(), customNames.path(i).asText()));
                 constant.arg(JExpr.lit(value.asText()));
                 ruleFactory.getAnnotator().enumConstant(constant, value.asText());
+                constants.put(value.asText(), constant);
             }
         }
+        return constants;
     }
 
     private void addGeneratedAnnotation(JDefinedClass jclass) {
@@ -241,19 +334,7 @@ public class EnumRule implements Rule<JClassContainer, JType> {
 
 
     private String makeUnique(String className, JClassContainer container) {
-        boolean found = false;
-        Iterator<JDefinedClass> classes = container.classes();
-        while (classes.hasNext()) {
-            JDefinedClass aClass = classes.next();
-            if (className.equalsIgnoreCase(aClass.name())) {
-                found = true;
-                break;
-            }
-        }
-        if (found) {
-            className = makeUnique(className + "_", container);
-        }
-        return className;
+        return ruleFactory.getClassNameReservations().reserveIgnoreCase(container, className);
     }
 
     protected String getConstantName(String nodeName, String customName) {
@@ -283,7 +364,7 @@ public class EnumRule implements Rule<JClassContainer, JType> {
 
     private void addInterfaces(JDefinedClass jclass, JsonNode javaInterfaces) {
         for (JsonNode i : javaInterfaces) {
-            jclass._implements(resolveType(jclass._package(), i.asText()));
+            jclass._implements(resolveType(jclass._package(), i.asText(), ruleFactory.getClassLookupCache()));
         }
     }
 
@@ -163,13 +163,11 @@ public class FormatRule implements Rule<JType, JType> {
     private Class<?> getDateTimeType() {
         String type=ruleFactory.getGenerationConfig().getDateTimeType();
         if (!isEmpty(type)){
-            try {
-                Class<?> clazz=Class.forName(type);
-                return clazz;
-            }
-            catch (ClassNotFoundException e) {
-                throw new GenerationException(format("could not load java type %s for date-time format", type), e);
+            Class<?> clazz = ruleFactory.getClassLookupCache().forName(type);
+            if (clazz == null) {
+                throw new GenerationException(format("could not load java type %s for date-time format", type));
             }
+            return clazz;
         }
         return ruleFactory.getGenerationConfig().isUseJodaDates() ? DateTime.class : Date.class;
     }
@@ -177,13 +175,11 @@ public class FormatRule implements Rule<JType, JType> {
     private Class<?> getDateOnlyType() {
         String type=ruleFactory.getGenerationConfig().getDateType();
         if (!isEmpty(type)){
-            try {
-                Class<?> clazz=Class.forName(type);
-                return clazz;
-            }
-            catch (ClassNotFoundException e) {
-                throw new GenerationException(format("could not load java type %s for date format", type), e);
+            Class<?> clazz = ruleFactory.getClassLookupCache().forName(type);
+            if (clazz == null) {
+                throw new GenerationException(format("could not load java type %s for date format", type));
             }
+            return clazz;
         }
         return ruleFactory.getGenerationConfig().isUseJodaLocalDates() ? LocalDate.class : String.class;
     }
@@ -191,13 +187,11 @@ public class FormatRule implements Rule<JType, JType> {
     private Class<?> getTimeOnlyType() {
         String type=ruleFactory.getGenerationConfig().getTimeType();
         if (!isEmpty(type)){
-            try {
-                Class<?> clazz=Class.forName(type);
-                return clazz;
-            }
-            catch (ClassNotFoundException e) {
-                throw new GenerationException(format("could not load java type %s for time format", type), e);
+            Class<?> clazz = ruleFactory.getClassLookupCache().forName(type);
+            if (clazz == null) {
+                throw new GenerationException(format("could not load java type %s for time format", type));
             }
+            return clazz;
         }
         return ruleFactory.getGenerationConfig().isUseJodaLocalTimes() ? LocalTime.class : String.class;
     }
@@ -0,0 +1,124 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.rules;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.jsonschema2pojo.Schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Routes the keywords found in a schema node to the rules registered for
+ * them.
+ * <p>
+ * The fields of a node are visited once to find every registered keyword, and
+ * the matching rules are then applied in the order they were registered (so
+ * the generated code doesn't depend on the order of keywords in the schema).
+ *
+ * @param <T>
+ *            The type of source code item on which the registered rules
+ *            operate
+ * @param <R>
+ *            The type of the source code item generated by the registered
+ *            rules
+ */
+public class KeywordDispatcher<T, R> {
+
+    private final Map<String, Integer> indexes = new HashMap<String, Integer>();
+    private final List<String> keywords = new ArrayList<String>();
+    private final List<Rule<T, R>> rules = new ArrayList<Rule<T, R>>();
+
+    /**
+     * Registers a rule to be applied when the given keyword is present.
+     *
+     * @param keyword
+     *            the schema keyword that triggers the rule
+     * @param rule
+     *            the rule to apply, with the value of the keyword as its node
+     * @return this dispatcher
+     */
+    public KeywordDispatcher<T, R> register(String keyword, Rule<T, R> rule) {
+        if (indexes.containsKey(keyword)) {
+            throw new IllegalArgumentException("A rule is already registered for keyword: " + keyword);
+        }
+
+        indexes.put(keyword, rules.size());
+        keywords.add(keyword);
+        rules.add(rule);
+        return this;
+    }
+
+    /**
+     * Finds the registered keywords present in the given node.
+     *
+     * @param node
+     *            a schema node
+     * @return the keywords found, which may be applied to any number of
+     *         source code items
+     */
+    public Match match(JsonNode node) {
+        JsonNode[] values = new JsonNode[rules.size()];
+
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            Integer index = indexes.get(field.getKey());
+            if (index != null) {
+                values[index] = field.getValue();
+            }
+        }
+
+        return new Match(values);
+    }
+
+    /**
+     * Applies the rules registered for the keywords present in the given node.
+     */
+    public void apply(String nodeName, JsonNode node, T generatableType, Schema currentSchema) {
+        match(node).apply(nodeName, generatableType, currentSchema);
+    }
+
+    /**
+     * The registered keywords found in a schema node.
+     */
+    public final class Match {
+
+        private final JsonNode[] values;
+
+        private Match(JsonNode[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Applies the rules registered for the keywords found, in
+         * registration order.
+         */
+        public void apply(String nodeName, T generatableType, Schema currentSchema) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    rules.get(i).apply(nodeName, values[i], generatableType, currentSchema);
+                }
+            }
+        }
+
+    }
+
+}
@@ -25,12 +25,17 @@ import com.sun.codemodel.JAnnotationUse;
 import com.sun.codemodel.JBlock;
 import com.sun.codemodel.JClass;
 import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JConditional;
 import com.sun.codemodel.JDefinedClass;
 import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JForEach;
 import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
+import com.sun.codemodel.JOp;
 import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JType;
 import com.sun.codemodel.JTypeVar;
@@ -43,15 +48,18 @@ import org.jsonschema2pojo.exception.ClassAlreadyExistsException;
 import org.jsonschema2pojo.util.NameHelper;
 import org.jsonschema2pojo.util.ParcelableHelper;
 import org.jsonschema2pojo.util.SerializableHelper;
-import org.jsonschema2pojo.util.TypeUtil;
 
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.Set;
 
 import javax.annotation.Generated;
 
@@ -71,6 +79,19 @@ import static org.jsonschema2pojo.util.TypeUtil.resolveType;
  */
 public class ObjectRule implements Rule<JPackage, JType> {
 
+    /**
+     * The initial value and multiplier used by HashCodeBuilder, so that
+     * fieldwise hash codes match those of the builder.
+     */
+    private static final int HASH_CODE_INITIAL = 17;
+    private static final int HASH_CODE_MULTIPLIER = 37;
+
+    /** Room for the identity hash code and brackets in toString output. */
+    private static final int TO_STRING_IDENTITY_LENGTH = 11;
+
+    /** Room for the separators and a typical value for each field in toString output. */
+    private static final int TO_STRING_VALUE_LENGTH = 18;
+
     private final RuleFactory ruleFactory;
     private final ParcelableHelper parcelableHelper;
 
@@ -116,17 +137,11 @@ public class ObjectRule implements Rule<JPackage, JType> {
             addJsonTypeInfoAnnotation(jclass, node);
         }
 
-        if (node.has("title")) {
-            ruleFactory.getTitleRule().apply(nodeName, node.get("title"), jclass, schema);
-        }
-
-        if (node.has("description")) {
-            ruleFactory.getDescriptionRule().apply(nodeName, node.get("description"), jclass, schema);
-        }
+        ruleFactory.getClassCommentRules().apply(nodeName, node, jclass, schema);
 
         ruleFactory.getPropertiesRule().apply(nodeName, node.get("properties"), jclass, schema);
 
-        if (ruleFactory.getGenerationConfig().isIncludeToString()) {
+        if (ruleFactory.getGenerationConfig().isIncludeToString() && !ruleFactory.getGenerationConfig().isUseFieldwiseToString()) {
             addToString(jclass);
         }
 
@@ -142,9 +157,19 @@ public class ObjectRule implements Rule<JPackage, JType> {
             ruleFactory.getRequiredArrayRule().apply(nodeName, node.get("required"), jclass, schema);
         }
 
+        if (ruleFactory.getGenerationConfig().isIncludeToString() && ruleFactory.getGenerationConfig().isUseFieldwiseToString()) {
+            // added once all fields (including additionalProperties) exist
+            addFieldwiseToString(jclass);
+        }
+
         if (ruleFactory.getGenerationConfig().isIncludeHashcodeAndEquals()) {
-            addHashCode(jclass);
-            addEquals(jclass);
+            if (ruleFactory.getGenerationConfig().isUseFieldwiseHashcodeAndEquals()) {
+                addFieldwiseHashCode(jclass);
+                addFieldwiseEquals(jclass);
+            } else {
+                addHashCode(jclass);
+                addEquals(jclass);
+            }
         }
 
         if (ruleFactory.getGenerationConfig().isParcelable()) {
@@ -258,18 +283,18 @@ public class ObjectRule implements Rule<JPackage, JType> {
                     fqn = fqn.substring(0, index) + ruleFactory.getGenerationConfig().getClassNamePrefix() + fqn.substring(index) + ruleFactory.getGenerationConfig().getClassNameSuffix();
                 }
 
-                try {
-                    _package.owner().ref(Thread.currentThread().getContextClassLoader().loadClass(fqn));
-                    JClass existingClass = TypeUtil.resolveType(_package, fqn + (node.get("javaType").asText().contains("<") ? "<" + substringAfter(node.get("javaType").asText(), "<") : ""));
+                if (ruleFactory.getClassLookupCache().loadClass(fqn) != null) {
+                    JClass existingClass = resolveType(_package, fqn + (node.get("javaType").asText().contains("<") ? "<" + substringAfter(node.get("javaType").asText(), "<") : ""), ruleFactory.getClassLookupCache());
 
                     throw new ClassAlreadyExistsException(existingClass);
-                } catch (ClassNotFoundException e) {
-                    if (usePolymorphicDeserialization) {
-                        newType = _package.owner()._class(JMod.PUBLIC, fqn, ClassType.CLASS);
-                    } else {
-                        newType = _package.owner()._class(fqn);
-                    }
                 }
+
+                if (usePolymorphicDeserialization) {
+                    newType = _package.owner()._class(JMod.PUBLIC, fqn, ClassType.CLASS);
+                } else {
+                    newType = _package.owner()._class(fqn);
+                }
+                ruleFactory.getClassNameReservations().register(newType);
             } else {
                 if (usePolymorphicDeserialization) {
                     newType = _package._class(JMod.PUBLIC, getClassName(nodeName, node, _package), ClassType.CLASS);
@@ -288,12 +313,8 @@ public class ObjectRule implements Rule<JPackage, JType> {
     }
 
     private boolean isFinal(JType superType) {
-        try {
-            Class<?> javaClass = Class.forName(superType.fullName());
-            return Modifier.isFinal(javaClass.getModifiers());
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
+        Class<?> javaClass = ruleFactory.getClassLookupCache().forName(superType.fullName());
+        return javaClass != null && Modifier.isFinal(javaClass.getModifiers());
     }
 
     private JType getSuperType(String nodeName, JsonNode node, JPackage jPackage, Schema schema) {
@@ -306,7 +327,7 @@ public class ObjectRule implements Rule<JPackage, JType> {
         if (superTypeSchema != null) {
             superType = ruleFactory.getSchemaRule().apply(nodeName + "Parent", node.get("extends"), jPackage, superTypeSchema);
         } else if (node.has("extendsJavaClass")) {
-            superType = resolveType(jPackage, node.get("extendsJavaClass").asText());
+            superType = resolveType(jPackage, node.get("extendsJavaClass").asText(), ruleFactory.getClassLookupCache());
         }
 
         return superType;
@@ -369,6 +390,92 @@ public class ObjectRule implements Rule<JPackage, JType> {
         toString.annotate(Override.class);
     }
 
+    /**
+     * Adds a toString method that appends each field to a pre-sized
+     * StringBuilder, producing the same output as
+     * ToStringBuilder.reflectionToString: the class name, identity hash code
+     * and then <code>[name=value,...]</code> with this class' fields first and
+     * the superclass' fields after them.
+     * <p>
+     * If the class (or a superclass) has array fields, or extends a type that
+     * was not generated, reflectionToString is used instead.
+     */
+    private void addFieldwiseToString(JDefinedClass jclass) {
+        if (!isFieldwiseToStringSupported(jclass)) {
+            addToString(jclass);
+            return;
+        }
+
+        boolean hasSuperFields = !jclass._extends().name().equals("Object");
+        List<JFieldVar> fields = new ArrayList<JFieldVar>();
+        int capacity = jclass.fullName().length() + TO_STRING_IDENTITY_LENGTH;
+        for (JFieldVar fieldVar : getInstanceFields(jclass)) {
+            if ((fieldVar.mods().getValue() & JMod.TRANSIENT) == 0 && fieldVar.name().indexOf('$') == -1) {
+                fields.add(fieldVar);
+                capacity += fieldVar.name().length() + TO_STRING_VALUE_LENGTH;
+            }
+        }
+
+        JMethod toString = jclass.method(JMod.PUBLIC, String.class, "toString");
+        JCodeModel owner = jclass.owner();
+
+        JBlock body = toString.body();
+        JVar sb = body.decl(owner.ref(StringBuilder.class), "sb", JExpr._new(owner.ref(StringBuilder.class)).arg(JExpr.lit(capacity)));
+        body.add(sb.invoke("append").arg(JExpr.invoke("getClass").invoke("getName"))
+                .invoke("append").arg(JExpr.lit('@'))
+                .invoke("append").arg(owner.ref(Integer.class).staticInvoke("toHexString").arg(owner.ref(System.class).staticInvoke("identityHashCode").arg(JExpr._this())))
+                .invoke("append").arg(JExpr.lit('[')));
+
+        for (JFieldVar fieldVar : fields) {
+            JExpression field = JExpr._this().ref(fieldVar);
+            body.add(sb.invoke("append").arg(JExpr.lit(fieldVar.name() + "=")));
+            if (fieldVar.type().isPrimitive()) {
+                body.add(sb.invoke("append").arg(field));
+            } else {
+                body.add(sb.invoke("append").arg(JOp.cond(field.eq(JExpr._null()), JExpr.lit("<null>"), field)));
+            }
+            body.add(sb.invoke("append").arg(JExpr.lit(',')));
+        }
+
+        if (hasSuperFields) {
+            // splice in the fields between the brackets of the superclass' output
+            JVar superString = body.decl(owner.ref(String.class), "superString", JExpr._super().invoke("toString"));
+            JVar contentStart = body.decl(owner.INT, "contentStart", superString.invoke("indexOf").arg(JExpr.lit('[')).plus(JExpr.lit(1)));
+            JVar contentEnd = body.decl(owner.INT, "contentEnd", superString.invoke("lastIndexOf").arg(JExpr.lit(']')));
+            JBlock appendSuper = body._if(contentStart.gt(JExpr.lit(0)).cand(contentEnd.gt(contentStart)))._then();
+            appendSuper.add(sb.invoke("append").arg(superString).arg(contentStart).arg(contentEnd));
+            appendSuper.add(sb.invoke("append").arg(JExpr.lit(',')));
+        }
+
+        JExpression lastIndex = sb.invoke("length").minus(JExpr.lit(1));
+        JConditional trailingSeparator = body._if(sb.invoke("charAt").arg(lastIndex).eq(JExpr.lit(',')));
+        trailingSeparator._then().add(sb.invoke("setCharAt").arg(lastIndex).arg(JExpr.lit(']')));
+        trailingSeparator._else().add(sb.invoke("append").arg(JExpr.lit(']')));
+
+        body._return(sb.invoke("toString"));
+
+        toString.annotate(Override.class);
+    }
+
+    /**
+     * A reflective toString in a superclass would also print the fields of
+     * this class, so the whole hierarchy must be generated and free of arrays
+     * (which reflectionToString prints in its own format).
+     */
+    private boolean isFieldwiseToStringSupported(JDefinedClass jclass) {
+        for (JFieldVar fieldVar : getInstanceFields(jclass)) {
+            if (fieldVar.type().isArray()) {
+                return false;
+            }
+        }
+
+        JClass superType = jclass._extends();
+        if (superType.name().equals("Object")) {
+            return true;
+        }
+        return superType instanceof JDefinedClass && isFieldwiseToStringSupported((JDefinedClass) superType);
+    }
+
     private void addHashCode(JDefinedClass jclass) {
         Map<String, JFieldVar> fields = jclass.fields();
         if (fields.isEmpty()) {
@@ -397,6 +504,212 @@ public class ObjectRule implements Rule<JPackage, JType> {
         hashCode.annotate(Override.class);
     }
 
+    /**
+     * Adds a hashCode method that combines the hash of each field directly,
+     * using the same arithmetic as HashCodeBuilder (so the hash codes are the
+     * same) but without allocating a builder or boxing primitives.
+     */
+    private void addFieldwiseHashCode(JDefinedClass jclass) {
+        List<JFieldVar> fields = getInstanceFields(jclass);
+        if (jclass.fields().isEmpty()) {
+            return;
+        }
+
+        JMethod hashCode = jclass.method(JMod.PUBLIC, int.class, "hashCode");
+        JCodeModel owner = jclass.owner();
+
+        JBlock body = hashCode.body();
+        JVar result = body.decl(owner.INT, "result", JExpr.lit(HASH_CODE_INITIAL));
+
+        if (!jclass._extends().name().equals("Object")) {
+            body.assign(result, result.mul(JExpr.lit(HASH_CODE_MULTIPLIER)).plus(JExpr._super().invoke("hashCode")));
+        }
+
+        JVar bits = null;
+        for (JFieldVar fieldVar : fields) {
+            JType type = getFieldwiseType(fieldVar);
+            if (type == owner.DOUBLE || (type.isArray() && type.elementType() == owner.DOUBLE)) {
+                bits = body.decl(owner.LONG, "bits");
+                break;
+            }
+        }
+
+        for (JFieldVar fieldVar : fields) {
+            JType type = getFieldwiseType(fieldVar);
+            JExpression field = JExpr._this().ref(fieldVar);
+
+            if (type.isArray()) {
+                addFieldwiseArrayHash(body, result, field, type, bits, 0);
+            } else {
+                body.assign(result, result.mul(JExpr.lit(HASH_CODE_MULTIPLIER)).plus(getFieldwiseHash(body, field, type, bits)));
+            }
+        }
+
+        body._return(result);
+
+        hashCode.annotate(Override.class);
+    }
+
+    /**
+     * Returns the hash of a single (non-array) value, as HashCodeBuilder
+     * would compute it.
+     */
+    private JExpression getFieldwiseHash(JBlock body, JExpression value, JType type, JVar bits) {
+        JCodeModel owner = type.owner();
+
+        if (!type.isPrimitive()) {
+            return JOp.cond(value.eq(JExpr._null()), JExpr.lit(0), value.invoke("hashCode"));
+        } else if (type == owner.BOOLEAN) {
+            return JOp.cond(value, JExpr.lit(0), JExpr.lit(1));
+        } else if (type == owner.LONG) {
+            return JExpr.cast(owner.INT, value.xor(value.shrz(JExpr.lit(32))));
+        } else if (type == owner.DOUBLE) {
+            body.assign(bits, owner.ref(Double.class).staticInvoke("doubleToLongBits").arg(value));
+            return JExpr.cast(owner.INT, bits.xor(bits.shrz(JExpr.lit(32))));
+        } else if (type == owner.FLOAT) {
+            return owner.ref(Float.class).staticInvoke("floatToIntBits").arg(value);
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Adds the hash of an array the way HashCodeBuilder appends one: element
+     * by element (so arrays are hashed by content), with a null array adding
+     * nothing but the multiplier.
+     */
+    private void addFieldwiseArrayHash(JBlock body, JVar result, JExpression array, JType type, JVar bits, int depth) {
+        JConditional isNull = body._if(array.eq(JExpr._null()));
+        isNull._then().assign(result, result.mul(JExpr.lit(HASH_CODE_MULTIPLIER)));
+
+        JType elementType = type.elementType();
+        JForEach forEach = isNull._else().forEach(elementType, "element" + (depth == 0 ? "" : depth), array);
+        JBlock loopBody = forEach.body();
+        if (elementType.isArray()) {
+            addFieldwiseArrayHash(loopBody, result, forEach.var(), elementType, bits, depth + 1);
+        } else {
+            loopBody.assign(result, result.mul(JExpr.lit(HASH_CODE_MULTIPLIER)).plus(getFieldwiseHash(loopBody, forEach.var(), elementType, bits)));
+        }
+    }
+
+    /**
+     * Adds an equals method that compares each field directly, returning as
+     * soon as a difference is found. Primitive fields are compared first and
+     * collections last, after the superclass' equals (if any).
+     */
+    private void addFieldwiseEquals(JDefinedClass jclass) {
+        List<JFieldVar> fields = getInstanceFields(jclass);
+        if (jclass.fields().isEmpty()) {
+            return;
+        }
+
+        JMethod equals = jclass.method(JMod.PUBLIC, boolean.class, "equals");
+        JVar otherObject = equals.param(Object.class, "other");
+        JCodeModel owner = jclass.owner();
+
+        JBlock body = equals.body();
+
+        body._if(otherObject.eq(JExpr._this()))._then()._return(JExpr.TRUE);
+        body._if(otherObject._instanceof(jclass).eq(JExpr.FALSE))._then()._return(JExpr.FALSE);
+
+        JVar rhsVar = body.decl(jclass, "rhs").init(JExpr.cast(jclass, otherObject));
+
+        if (!jclass._extends().name().equals("Object")) {
+            body._if(JExpr._super().invoke("equals").arg(otherObject).not())._then()._return(JExpr.FALSE);
+        }
+
+        List<JFieldVar> comparisonOrder = new ArrayList<JFieldVar>(fields);
+        Collections.sort(comparisonOrder, new Comparator<JFieldVar>() {
+            @Override
+            public int compare(JFieldVar a, JFieldVar b) {
+                return getComparisonCost(getFieldwiseType(a)) - getComparisonCost(getFieldwiseType(b));
+            }
+        });
+
+        for (JFieldVar fieldVar : comparisonOrder) {
+            JType type = getFieldwiseType(fieldVar);
+            JExpression field = JExpr._this().ref(fieldVar);
+            JExpression rhsField = rhsVar.ref(fieldVar);
+            JExpression differs;
+
+            if (type == owner.DOUBLE) {
+                JClass doubleClass = owner.ref(Double.class);
+                differs = doubleClass.staticInvoke("doubleToLongBits").arg(field).ne(doubleClass.staticInvoke("doubleToLongBits").arg(rhsField));
+            } else if (type == owner.FLOAT) {
+                JClass floatClass = owner.ref(Float.class);
+                differs = floatClass.staticInvoke("floatToIntBits").arg(field).ne(floatClass.staticInvoke("floatToIntBits").arg(rhsField));
+            } else if (type.isPrimitive()) {
+                differs = field.ne(rhsField);
+            } else if (type.isArray()) {
+                // arrays are compared by content, as EqualsBuilder does
+                String method = type.elementType().isPrimitive() ? "equals" : "deepEquals";
+                differs = owner.ref(Arrays.class).staticInvoke(method).arg(field).arg(rhsField).not();
+            } else {
+                differs = field.eq(rhsField).cor(field.ne(JExpr._null()).cand(field.invoke("equals").arg(rhsField))).not();
+            }
+
+            body._if(differs)._then()._return(JExpr.FALSE);
+        }
+
+        body._return(JExpr.TRUE);
+
+        equals.annotate(Override.class);
+    }
+
+    /**
+     * Returns the type of the field, recovering array types that a javaType
+     * (e.g. "byte[]") declares by name only, so that arrays are hashed and
+     * compared by content.
+     */
+    private JType getFieldwiseType(JFieldVar fieldVar) {
+        JType type = fieldVar.type();
+        if (!type.isArray() && type.fullName().endsWith("[]")) {
+            return parseArrayType(type.owner(), type.fullName());
+        }
+        return type;
+    }
+
+    private JType parseArrayType(JCodeModel owner, String typeName) {
+        if (typeName.endsWith("[]")) {
+            return parseArrayType(owner, typeName.substring(0, typeName.length() - 2)).array();
+        }
+        return isPrimitive(typeName, owner) ? primitiveType(typeName, owner) : owner.ref(typeName);
+    }
+
+    private List<JFieldVar> getInstanceFields(JDefinedClass jclass) {
+        List<JFieldVar> instanceFields = new ArrayList<JFieldVar>();
+        for (JFieldVar fieldVar : jclass.fields().values()) {
+            if ((fieldVar.mods().getValue() & JMod.STATIC) != JMod.STATIC) {
+                instanceFields.add(fieldVar);
+            }
+        }
+        return instanceFields;
+    }
+
+    /**
+     * Ranks field types by how expensive they are to compare: primitives,
+     * then java.lang types and enums, then other objects, then collections
+     * and arrays.
+     */
+    private int getComparisonCost(JType type) {
+        if (type.isPrimitive()) {
+            return 0;
+        }
+
+        if (type.isArray()) {
+            return 3;
+        }
+
+        String erasure = type.erasure().fullName();
+        if (erasure.startsWith("java.lang.") || (type instanceof JDefinedClass && ((JDefinedClass) type).getClassType() == ClassType.ENUM)) {
+            return 1;
+        } else if (erasure.equals(List.class.getName()) || erasure.equals(Set.class.getName()) || erasure.equals(Map.class.getName())) {
+            return 3;
+        } else {
+            return 2;
+        }
+    }
+
     private void addConstructors(JDefinedClass jclass, JsonNode node, Schema schema, boolean onlyRequired) {
 
         LinkedHashSet<String> classProperties = getConstructorProperties(node, schema, onlyRequired);
@@ -531,7 +844,7 @@ public class ObjectRule implements Rule<JPackage, JType> {
 
     private void addInterfaces(JDefinedClass jclass, JsonNode javaInterfaces) {
         for (JsonNode i : javaInterfaces) {
-            jclass._implements(resolveType(jclass._package(), i.asText()));
+            jclass._implements(resolveType(jclass._package(), i.asText(), ruleFactory.getClassLookupCache()));
         }
     }
 
@@ -561,13 +874,7 @@ public class ObjectRule implements Rule<JPackage, JType> {
     }
 
     private String makeUnique(String className, JPackage _package) {
-        try {
-            JDefinedClass _class = _package._class(className);
-            _package.remove(_class);
-            return className;
-        } catch (JClassAlreadyExistsException e) {
-            return makeUnique(className + "_", _package);
-        }
+        return ruleFactory.getClassNameReservations().reserve(_package, className);
     }
 
     private boolean usesPolymorphicDeserialization(JsonNode node) {
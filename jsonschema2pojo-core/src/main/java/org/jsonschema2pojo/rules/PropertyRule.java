@@ -17,11 +17,16 @@
 package org.jsonschema2pojo.rules;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.sun.codemodel.JBlock;
+import com.sun.codemodel.JClass;
 import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JDocComment;
 import com.sun.codemodel.JDocCommentable;
 import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JExpression;
 import com.sun.codemodel.JFieldVar;
+import com.sun.codemodel.JInvocation;
 import com.sun.codemodel.JMethod;
 import com.sun.codemodel.JMod;
 import com.sun.codemodel.JType;
@@ -31,6 +36,13 @@ import org.jsonschema2pojo.GenerationConfig;
 import org.jsonschema2pojo.Schema;
 import org.jsonschema2pojo.util.NameHelper;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.apache.commons.lang3.StringUtils.capitalize;
 
 
@@ -84,18 +96,20 @@ public class PropertyRule implements Rule<JDefinedClass, JDefinedClass> {
         }
 
         JFieldVar field = jclass.field(accessModifier, propertyType, propertyName);
-        propertyAnnotations(nodeName, node, schema, field);
+        KeywordDispatcher<JDocCommentable, JDocComment>.Match propertyComments = ruleFactory.getPropertyCommentRules().match(node);
+        propertyComments.apply(nodeName, field, schema);
 
         ruleFactory.getAnnotator().propertyField(field, jclass, nodeName, node);
 
+        JMethod getter = null;
         if (ruleFactory.getGenerationConfig().isIncludeAccessors()) {
-            JMethod getter = addGetter(jclass, field, nodeName, node);
+            getter = addGetter(jclass, field, nodeName, node);
             ruleFactory.getAnnotator().propertyGetter(getter, nodeName);
-            propertyAnnotations(nodeName, node, schema, getter);
+            propertyComments.apply(nodeName, getter, schema);
 
             JMethod setter = addSetter(jclass, field, nodeName, node);
             ruleFactory.getAnnotator().propertySetter(setter, nodeName);
-            propertyAnnotations(nodeName, node, schema, setter);
+            propertyComments.apply(nodeName, setter, schema);
         }
 
         if (ruleFactory.getGenerationConfig().isGenerateBuilders()) {
@@ -106,7 +120,15 @@ public class PropertyRule implements Rule<JDefinedClass, JDefinedClass> {
             ruleFactory.getPatternRule().apply(nodeName, node.get("pattern"), field, schema);
         }
 
-        ruleFactory.getDefaultRule().apply(nodeName, node.get("default"), field, schema);
+        if (ruleFactory.getGenerationConfig().isUseStaticDefaultConstants() && DefaultRule.isShareableDefault(field.type(), node.get("default"))) {
+            field.init(addDefaultConstant(jclass, field, nodeName, node.get("default"), schema));
+        } else {
+            ruleFactory.getDefaultRule().apply(nodeName, node.get("default"), field, schema);
+        }
+
+        if (getter != null && ruleFactory.getGenerationConfig().isUseLazyCollectionDefaults() && !ruleFactory.getGenerationConfig().isParcelable()) {
+            addLazyCollectionDefault(jclass, field, getter, nodeName, node.get("default"), schema);
+        }
 
         ruleFactory.getMinimumMaximumRule().apply(nodeName, node, field, schema);
 
@@ -121,22 +143,69 @@ public class PropertyRule implements Rule<JDefinedClass, JDefinedClass> {
         return jclass;
     }
 
-    private void propertyAnnotations(String nodeName, JsonNode node, Schema schema, JDocCommentable generatedJavaConstruct) {
-        if (node.has("title")) {
-            ruleFactory.getTitleRule().apply(nodeName, node.get("title"), generatedJavaConstruct, schema);
+    /**
+     * Replaces the per-instance default of a List or Set field with a shared
+     * one: the JDK's empty collection, or an unmodifiable private static
+     * constant holding the schema default. The getter copies the shared default
+     * into a new collection the first time it is called, so callers can still
+     * modify the collection it returns. The shared default itself is never
+     * exposed.
+     */
+    private void addLazyCollectionDefault(JDefinedClass jclass, JFieldVar field, JMethod getter, String nodeName, JsonNode defaultNode, Schema schema) {
+        String fieldType = field.type().fullName();
+        boolean isList = fieldType.startsWith(List.class.getName());
+        if (!isList && !fieldType.startsWith(Set.class.getName())) {
+            return;
         }
-
-        if (node.has("javaName")) {
-            ruleFactory.getJavaNameRule().apply(nodeName, node.get("javaName"), generatedJavaConstruct, schema);
+        if (defaultNode != null && defaultNode.isNull()) {
+            // an explicit null default leaves the field null
+            return;
         }
 
-        if (node.has("description")) {
-            ruleFactory.getDescriptionRule().apply(nodeName, node.get("description"), generatedJavaConstruct, schema);
+        JClass elementType = ((JClass) field.type()).getTypeParameters().get(0);
+        JClass collectionImplType = jclass.owner().ref(isList ? ArrayList.class : LinkedHashSet.class).narrow(elementType);
+        JInvocation copy = JExpr._new(collectionImplType);
+        JExpression sharedDefault;
+
+        if (defaultNode instanceof ArrayNode && defaultNode.size() > 0) {
+            if (elementType.fullName().equals(Date.class.getName())) {
+                // a copy of a shared list would share its (mutable) dates
+                return;
+            }
+            JFieldVar constant = addDefaultConstant(jclass, field, nodeName, defaultNode, schema);
+            field.init(constant);
+            sharedDefault = constant;
+            copy.arg(constant);
+        } else if (ruleFactory.getGenerationConfig().isInitializeCollections()) {
+            JClass collections = jclass.owner().ref(Collections.class);
+            sharedDefault = collections.staticRef(isList ? "EMPTY_LIST" : "EMPTY_SET");
+            field.init(collections.staticInvoke(isList ? "emptyList" : "emptySet"));
+        } else {
+            return;
         }
 
-        if (node.has("required")) {
-            ruleFactory.getRequiredRule().apply(nodeName, node.get("required"), generatedJavaConstruct, schema);
+        JBlock body = getter.body();
+        body.pos(0);
+        body._if(JExpr._this().ref(field).eq(sharedDefault))._then().assign(JExpr._this().ref(field), copy);
+        body.pos(body.getContents().size());
+    }
+
+    /**
+     * Adds a private static final constant, holding the schema default of the
+     * given field, to the class.
+     */
+    private JFieldVar addDefaultConstant(JDefinedClass jclass, JFieldVar field, String nodeName, JsonNode defaultNode, Schema schema) {
+        JFieldVar constant = jclass.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, field.type(), getDefaultConstantName(jclass, field));
+        ruleFactory.getDefaultRule().apply(nodeName, defaultNode, constant, schema);
+        return constant;
+    }
+
+    private String getDefaultConstantName(JDefinedClass jclass, JFieldVar field) {
+        String constantName = field.name().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_DEFAULT";
+        while (jclass.fields().containsKey(constantName)) {
+            constantName += "_";
         }
+        return constantName;
     }
 
     private JsonNode resolveRefs(JsonNode node, Schema parent) {
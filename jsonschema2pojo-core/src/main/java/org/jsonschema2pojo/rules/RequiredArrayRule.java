@@ -26,9 +26,9 @@ import com.sun.codemodel.JType;
 
 import org.jsonschema2pojo.Schema;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Set;
 
 import javax.validation.constraints.NotNull;
 
@@ -50,7 +50,7 @@ public class RequiredArrayRule implements Rule<JDefinedClass, JDefinedClass> {
 
     @Override
     public JDefinedClass apply(String nodeName, JsonNode node, JDefinedClass jclass, Schema schema) {
-        List<String> requiredFieldMethods = new ArrayList<String>();
+        Set<String> requiredFieldMethods = new HashSet<String>();
 
         JsonNode properties = schema.getContent().get("properties");
 
@@ -85,7 +85,7 @@ public class RequiredArrayRule implements Rule<JDefinedClass, JDefinedClass> {
         return jclass;
     }
 
-    private void updateGetterSetterJavaDoc(JDefinedClass jclass, List<String> requiredFieldMethods) {
+    private void updateGetterSetterJavaDoc(JDefinedClass jclass, Set<String> requiredFieldMethods) {
         for (Iterator methods = jclass.methods().iterator(); methods.hasNext(); ) {
             JMethod method = (JMethod) methods.next();
             if (requiredFieldMethods.contains(method.name())) {
@@ -26,10 +26,13 @@ import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JType;
 
 import org.jsonschema2pojo.Annotator;
+import org.jsonschema2pojo.ContentResolver;
 import org.jsonschema2pojo.DefaultGenerationConfig;
 import org.jsonschema2pojo.GenerationConfig;
 import org.jsonschema2pojo.Jackson2Annotator;
 import org.jsonschema2pojo.SchemaStore;
+import org.jsonschema2pojo.util.ClassLookupCache;
+import org.jsonschema2pojo.util.ClassNameReservations;
 import org.jsonschema2pojo.util.NameHelper;
 import org.jsonschema2pojo.util.ParcelableHelper;
 
@@ -42,6 +45,38 @@ public class RuleFactory {
     private GenerationConfig generationConfig;
     private Annotator annotator;
     private SchemaStore schemaStore;
+    private final ClassNameReservations classNameReservations = new ClassNameReservations();
+    private final ClassLookupCache classLookupCache = new ClassLookupCache();
+
+    // rules keep nothing between applications (anything remembered about a
+    // generated class is kept on the class itself), so one instance of each
+    // is shared by every schema node to which it is applied
+    private final Rule<JPackage, JClass> arrayRule = new ArrayRule(this);
+    private final Rule<JDocCommentable, JDocComment> descriptionRule = new DescriptionRule();
+    private final Rule<JClassContainer, JType> enumRule = new EnumRule(this);
+    private final Rule<JType, JType> formatRule = new FormatRule(this);
+    private final Rule<JPackage, JType> objectRule = new ObjectRule(this, new ParcelableHelper());
+    private final Rule<JDefinedClass, JDefinedClass> requiredArrayRule = new RequiredArrayRule(this);
+    private final Rule<JDefinedClass, JDefinedClass> propertiesRule = new PropertiesRule(this);
+    private final Rule<JDefinedClass, JDefinedClass> propertyRule = new PropertyRule(this);
+    private final Rule<JDocCommentable, JDocComment> requiredRule = new RequiredRule(this);
+    private final Rule<JClassContainer, JType> typeRule = new TypeRule(this);
+    private final Rule<JDefinedClass, JDefinedClass> additionalPropertiesRule = new AdditionalPropertiesRule(this);
+    private final Rule<JDocCommentable, JDocComment> titleRule = new TitleRule();
+    private final Rule<JClassContainer, JType> schemaRule = new SchemaRule(this);
+    private final Rule<JFieldVar, JFieldVar> defaultRule = new DefaultRule(this);
+    private final Rule<JFieldVar, JFieldVar> minimumMaximumRule = new MinimumMaximumRule(this);
+    private final Rule<JFieldVar, JFieldVar> minItemsMaxItemsRule = new MinItemsMaxItemsRule(this);
+    private final Rule<JFieldVar, JFieldVar> minLengthMaxLengthRule = new MinLengthMaxLengthRule(this);
+    private final Rule<JFieldVar, JFieldVar> patternRule = new PatternRule(this);
+    private final Rule<JFieldVar, JFieldVar> validRule = new ValidRule(this);
+    private final Rule<JType, JType> mediaRule = new MediaRule(this);
+    private final Rule<JDefinedClass, JDefinedClass> dynamicPropertiesRule = new DynamicPropertiesRule(this);
+    private final Rule<JDocCommentable, JDocComment> javaNameRule = new JavaNameRule();
+
+    private KeywordDispatcher<JDocCommentable, JDocComment> propertyCommentRules;
+
+    private KeywordDispatcher<JDocCommentable, JDocComment> classCommentRules;
 
     /**
      * Create a new rule factory with the given generation config options.
@@ -77,7 +112,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "array" declaration.
      */
     public Rule<JPackage, JClass> getArrayRule() {
-        return new ArrayRule(this);
+        return arrayRule;
     }
 
     /**
@@ -87,7 +122,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "description" declaration.
      */
     public Rule<JDocCommentable, JDocComment> getDescriptionRule() {
-        return new DescriptionRule();
+        return descriptionRule;
     }
 
     /**
@@ -97,7 +132,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "enum" declaration.
      */
     public Rule<JClassContainer, JType> getEnumRule() {
-        return new EnumRule(this);
+        return enumRule;
     }
 
     /**
@@ -107,7 +142,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "format" declaration.
      */
     public Rule<JType, JType> getFormatRule() {
-        return new FormatRule(this);
+        return formatRule;
     }
 
     /**
@@ -117,7 +152,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "object" declaration.
      */
     public Rule<JPackage, JType> getObjectRule() {
-        return new ObjectRule(this, new ParcelableHelper());
+        return objectRule;
     }
 
     /**
@@ -126,7 +161,9 @@ public class RuleFactory {
      *
      * @return a schema rule that can handle the "required" declaration.
      */
-    public Rule<JDefinedClass, JDefinedClass> getRequiredArrayRule() { return new RequiredArrayRule(this); }
+    public Rule<JDefinedClass, JDefinedClass> getRequiredArrayRule() {
+        return requiredArrayRule;
+    }
 
     /**
      * Provides a rule instance that should be applied when a "properties"
@@ -135,7 +172,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "properties" declaration.
      */
     public Rule<JDefinedClass, JDefinedClass> getPropertiesRule() {
-        return new PropertiesRule(this);
+        return propertiesRule;
     }
 
     /**
@@ -146,7 +183,7 @@ public class RuleFactory {
      * @return a schema rule that can handle a property declaration.
      */
     public Rule<JDefinedClass, JDefinedClass> getPropertyRule() {
-        return new PropertyRule(this);
+        return propertyRule;
     }
 
     /**
@@ -156,7 +193,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "required" declaration.
      */
     public Rule<JDocCommentable, JDocComment> getRequiredRule() {
-        return new RequiredRule(this);
+        return requiredRule;
     }
     
 
@@ -169,7 +206,7 @@ public class RuleFactory {
      *         given schema node.
      */
     public Rule<JClassContainer, JType> getTypeRule() {
-        return new TypeRule(this);
+        return typeRule;
     }
 
     /**
@@ -180,7 +217,7 @@ public class RuleFactory {
      *         declaration.
      */
     public Rule<JDefinedClass, JDefinedClass> getAdditionalPropertiesRule() {
-        return new AdditionalPropertiesRule(this);
+        return additionalPropertiesRule;
     }
 
     /**
@@ -190,7 +227,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "title" declaration.
      */
     public Rule<JDocCommentable, JDocComment> getTitleRule() {
-        return new TitleRule();
+        return titleRule;
     }
 
     /**
@@ -200,7 +237,7 @@ public class RuleFactory {
      * @return a schema rule that can handle a schema declaration.
      */
     public Rule<JClassContainer, JType> getSchemaRule() {
-        return new SchemaRule(this);
+        return schemaRule;
     }
 
     /**
@@ -211,7 +248,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "default" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getDefaultRule() {
-        return new DefaultRule(this);
+        return defaultRule;
     }
 
     /**
@@ -222,7 +259,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "default" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getMinimumMaximumRule() {
-        return new MinimumMaximumRule(this);
+        return minimumMaximumRule;
     }
 
     /**
@@ -233,7 +270,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "default" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getMinItemsMaxItemsRule() {
-        return new MinItemsMaxItemsRule(this);
+        return minItemsMaxItemsRule;
     }
 
     /**
@@ -244,7 +281,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "default" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getMinLengthMaxLengthRule() {
-        return new MinLengthMaxLengthRule(this);
+        return minLengthMaxLengthRule;
     }
 
     /**
@@ -254,7 +291,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "pattern" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getPatternRule() {
-        return new PatternRule(this);
+        return patternRule;
     }
 
     /**
@@ -265,7 +302,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "default" declaration.
      */
     public Rule<JFieldVar, JFieldVar> getValidRule() {
-        return new ValidRule(this);
+        return validRule;
     }
 
     /**
@@ -289,6 +326,8 @@ public class RuleFactory {
     public void setGenerationConfig(final GenerationConfig generationConfig) {
         this.generationConfig = generationConfig;
         this.nameHelper = new NameHelper(generationConfig);
+        this.schemaStore.setMaxCachedDocuments(generationConfig.getMaxCachedDocuments());
+        this.schemaStore.setContentResolver(new ContentResolver(generationConfig));
     }
 
     /**
@@ -345,6 +384,25 @@ public class RuleFactory {
         return nameHelper;
     }
 
+    /**
+     * Gets the index used to allocate unique names for generated classes.
+     *
+     * @return the class name reservations shared by the rules of this factory
+     */
+    public ClassNameReservations getClassNameReservations() {
+        return classNameReservations;
+    }
+
+    /**
+     * Gets the cache used to look up classes and parse type expressions
+     * named in schemas and configuration.
+     *
+     * @return the class lookup cache shared by the rules of this factory
+     */
+    public ClassLookupCache getClassLookupCache() {
+        return classLookupCache;
+    }
+
     /**
      * Provides a rule instance that should be applied when a "media"
      * declaration is found in the schema.
@@ -352,7 +410,7 @@ public class RuleFactory {
      * @return a schema rule that can handle the "media" declaration.
      */
     public Rule<JType, JType> getMediaRule() {
-        return new MediaRule(this);
+        return mediaRule;
     }
 
     /**
@@ -360,11 +418,56 @@ public class RuleFactory {
      * building properties.
      */
     public Rule<JDefinedClass, JDefinedClass> getDynamicPropertiesRule() {
-        return new DynamicPropertiesRule(this);
+        return dynamicPropertiesRule;
     }
 
     public Rule<JDocCommentable, JDocComment> getJavaNameRule() {
-        return new JavaNameRule();
+        return javaNameRule;
+    }
+
+    /**
+     * Provides the rules that should be applied to each field and accessor
+     * generated for a property, indexed by the keyword (in the property
+     * declaration) that triggers each rule.
+     * <p>
+     * The dispatcher is built once from {@link #getTitleRule()},
+     * {@link #getJavaNameRule()}, {@link #getDescriptionRule()} and
+     * {@link #getRequiredRule()}, so a factory that overrides these methods
+     * has its own rules applied.
+     *
+     * @return a dispatcher for the "title", "javaName", "description" and
+     *         "required" declarations of a property.
+     */
+    public KeywordDispatcher<JDocCommentable, JDocComment> getPropertyCommentRules() {
+        if (propertyCommentRules == null) {
+            propertyCommentRules = new KeywordDispatcher<JDocCommentable, JDocComment>()
+                    .register("title", getTitleRule())
+                    .register("javaName", getJavaNameRule())
+                    .register("description", getDescriptionRule())
+                    .register("required", getRequiredRule());
+        }
+        return propertyCommentRules;
+    }
+
+    /**
+     * Provides the rules that should be applied to the javadoc of each class
+     * generated for an object schema, indexed by the keyword that triggers
+     * each rule.
+     * <p>
+     * The dispatcher is built once from {@link #getTitleRule()} and
+     * {@link #getDescriptionRule()}, so a factory that overrides these
+     * methods has its own rules applied.
+     *
+     * @return a dispatcher for the "title" and "description" declarations of
+     *         an object schema.
+     */
+    public KeywordDispatcher<JDocCommentable, JDocComment> getClassCommentRules() {
+        if (classCommentRules == null) {
+            classCommentRules = new KeywordDispatcher<JDocCommentable, JDocComment>()
+                    .register("title", getTitleRule())
+                    .register("description", getDescriptionRule());
+        }
+        return classCommentRules;
     }
 
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jsonschema2pojo.exception.GenerationException;
+
+import japa.parser.JavaParser;
+import japa.parser.ParseException;
+import japa.parser.ast.body.FieldDeclaration;
+import japa.parser.ast.type.ClassOrInterfaceType;
+
+/**
+ * Remembers the outcome of class lookups and type expression parsing for the
+ * duration of a generation run.
+ * <p>
+ * Schemas tend to name the same <code>javaType</code>,
+ * <code>extendsJavaClass</code> or date type many times over, and most of
+ * those lookups fail (the class is about to be generated). Both classes that
+ * were found and names that could not be loaded are cached, so each name is
+ * looked up at most once per class loader.
+ */
+public class ClassLookupCache {
+
+    /**
+     * Stands in for a class that could not be loaded, as concurrent maps
+     * don't accept <code>null</code> values.
+     */
+    private static final Class<?> NOT_FOUND = NotFound.class;
+
+    private final Map<ClassLoader, ConcurrentMap<String, Class<?>>> classesByLoader = Collections.synchronizedMap(new HashMap<ClassLoader, ConcurrentMap<String, Class<?>>>());
+
+    private final ConcurrentMap<String, ClassOrInterfaceType> parsedTypes = new ConcurrentHashMap<String, ClassOrInterfaceType>();
+
+    /**
+     * Finds a class using the context class loader of the current thread, as
+     * used when resolving types named in a schema.
+     *
+     * @param className
+     *            the fully qualified name of the class
+     * @return the class, or <code>null</code> if it cannot be loaded
+     */
+    public Class<?> loadClass(String className) {
+        return findClass(className, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Finds a class using the class loader that loaded jsonschema2pojo, as
+     * {@link Class#forName(String)} does when called from a rule.
+     *
+     * @param className
+     *            the fully qualified name of the class
+     * @return the class, or <code>null</code> if it cannot be loaded
+     */
+    public Class<?> forName(String className) {
+        return findClass(className, ClassLookupCache.class.getClassLoader());
+    }
+
+    /**
+     * Parses a (possibly generic) type expression such as
+     * <code>java.util.Map&lt;String, com.example.Foo&gt;</code>.
+     *
+     * @param typeDefinition
+     *            the type as written in the schema
+     * @return the parsed type; callers must not modify it
+     * @throws GenerationException
+     *             if the type expression is not valid Java
+     */
+    public ClassOrInterfaceType parseType(String typeDefinition) {
+        ClassOrInterfaceType type = parsedTypes.get(typeDefinition);
+        if (type == null) {
+            try {
+                FieldDeclaration fieldDeclaration = (FieldDeclaration) JavaParser.parseBodyDeclaration(typeDefinition + " foo;");
+                type = (ClassOrInterfaceType) fieldDeclaration.getType().getChildrenNodes().get(0);
+            } catch (ParseException e) {
+                throw new GenerationException(e);
+            }
+            parsedTypes.putIfAbsent(typeDefinition, type);
+        }
+        return type;
+    }
+
+    private Class<?> findClass(String className, ClassLoader classLoader) {
+        ConcurrentMap<String, Class<?>> classes = classesFor(classLoader);
+
+        Class<?> found = classes.get(className);
+        if (found == null) {
+            try {
+                found = Class.forName(className, false, classLoader);
+            } catch (ClassNotFoundException e) {
+                found = NOT_FOUND;
+            }
+            classes.putIfAbsent(className, found);
+        }
+
+        return found == NOT_FOUND ? null : found;
+    }
+
+    private ConcurrentMap<String, Class<?>> classesFor(ClassLoader classLoader) {
+        synchronized (classesByLoader) {
+            ConcurrentMap<String, Class<?>> classes = classesByLoader.get(classLoader);
+            if (classes == null) {
+                classes = new ConcurrentHashMap<String, Class<?>>();
+                classesByLoader.put(classLoader, classes);
+            }
+            return classes;
+        }
+    }
+
+    private static final class NotFound {
+    }
+
+}
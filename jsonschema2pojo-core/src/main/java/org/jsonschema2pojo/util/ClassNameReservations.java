@@ -0,0 +1,214 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.util;
+
+import static org.apache.commons.lang3.StringUtils.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JClassContainer;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JPackage;
+
+/**
+ * Reserves unique class names within a package or outer class.
+ * <p>
+ * Each {@link JClassContainer} gets an index of the names already taken in it
+ * (seeded from the classes it holds when first seen) and, for every requested
+ * base name, the number of "_" suffixes that are known to be taken. A
+ * collision is therefore resolved by continuing from the last allocated
+ * suffix instead of probing the container from the start every time, which
+ * keeps naming linear when many schemas share a name like "Item".
+ * <p>
+ * Reservations for the same container are serialized, so generation threads
+ * sharing a code model always receive distinct names.
+ * <p>
+ * On a case-insensitive file system two source files can't differ only in
+ * case (and codemodel refuses to create such classes), so there every
+ * reservation ignores case.
+ */
+public class ClassNameReservations {
+
+    private final Map<JClassContainer, Reservations> containers = Collections.synchronizedMap(new WeakHashMap<JClassContainer, Reservations>());
+
+    private final boolean caseSensitiveFileSystem;
+
+    public ClassNameReservations() {
+        this(CodeModelFileSystem.isCaseSensitive());
+    }
+
+    ClassNameReservations(boolean caseSensitiveFileSystem) {
+        this.caseSensitiveFileSystem = caseSensitiveFileSystem;
+    }
+
+    /**
+     * Reserves a class name in the given container, appending "_" to the
+     * requested name until it no longer matches an existing class exactly
+     * (or ignoring case, on a case-insensitive file system).
+     *
+     * @param container
+     *            the package or class that will hold the new class
+     * @param className
+     *            the preferred (simple) class name
+     * @return a name that is not used by any other class in the container
+     */
+    public String reserve(JClassContainer container, String className) {
+        return reserve(container, className, false);
+    }
+
+    /**
+     * Reserves a class name in the given container, appending "_" to the
+     * requested name until it no longer matches an existing class ignoring
+     * case.
+     *
+     * @param container
+     *            the package or class that will hold the new class
+     * @param className
+     *            the preferred (simple) class name
+     * @return a name that differs, ignoring case, from every other class in
+     *         the container
+     */
+    public String reserveIgnoreCase(JClassContainer container, String className) {
+        return reserve(container, className, true);
+    }
+
+    /**
+     * Records a class that was created without a reservation (for instance
+     * by its fully qualified name), so that later reservations in the same
+     * container avoid its name.
+     *
+     * @param jclass
+     *            a class that has been added to the code model
+     */
+    public void register(JDefinedClass jclass) {
+        Reservations reservations = containers.get(jclass.parentContainer());
+        if (reservations != null) {
+            synchronized (reservations) {
+                reservations.add(jclass.name());
+            }
+        }
+    }
+
+    private String reserve(JClassContainer container, String className, boolean ignoreCase) {
+        Reservations reservations = reservationsFor(container);
+        synchronized (reservations) {
+            return reservations.reserve(container, className, ignoreCase || !caseSensitiveFileSystem);
+        }
+    }
+
+    private Reservations reservationsFor(JClassContainer container) {
+        synchronized (containers) {
+            Reservations reservations = containers.get(container);
+            if (reservations == null) {
+                reservations = new Reservations(container);
+                containers.put(container, reservations);
+            }
+            return reservations;
+        }
+    }
+
+    /**
+     * Folds a name so that two names are equal after folding exactly when
+     * they are equal according to {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String fold(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Finds out whether codemodel treats the file system as case-sensitive,
+     * by asking it for two classes whose names differ only in case.
+     */
+    private static class CodeModelFileSystem {
+
+        private static final boolean CASE_SENSITIVE = detectCaseSensitivity();
+
+        static boolean isCaseSensitive() {
+            return CASE_SENSITIVE;
+        }
+
+        private static boolean detectCaseSensitivity() {
+            JCodeModel codeModel = new JCodeModel();
+            try {
+                codeModel._class("example.CaseProbe");
+                codeModel._class("example.Caseprobe");
+                return true;
+            } catch (JClassAlreadyExistsException e) {
+                return false;
+            }
+        }
+
+    }
+
+    private static class Reservations {
+
+        private final Set<String> names = new HashSet<String>();
+        private final Set<String> foldedNames = new HashSet<String>();
+        private final Map<String, Integer> suffixes = new HashMap<String, Integer>();
+        private final Map<String, Integer> foldedSuffixes = new HashMap<String, Integer>();
+
+        Reservations(JClassContainer container) {
+            for (Iterator<JDefinedClass> classes = container.classes(); classes.hasNext();) {
+                add(classes.next().name());
+            }
+        }
+
+        String reserve(JClassContainer container, String className, boolean ignoreCase) {
+            Map<String, Integer> knownSuffixes = ignoreCase ? foldedSuffixes : suffixes;
+            String key = ignoreCase ? fold(className) : className;
+
+            Integer known = knownSuffixes.get(key);
+            int suffixCount = known == null ? 0 : known;
+            String candidate = className + repeat('_', suffixCount);
+            while (isTaken(container, candidate, ignoreCase)) {
+                candidate = candidate + "_";
+                suffixCount++;
+            }
+
+            knownSuffixes.put(key, suffixCount + 1);
+            add(candidate);
+            return candidate;
+        }
+
+        void add(String className) {
+            names.add(className);
+            foldedNames.add(fold(className));
+        }
+
+        private boolean isTaken(JClassContainer container, String className, boolean ignoreCase) {
+            if (ignoreCase ? foldedNames.contains(fold(className)) : names.contains(className)) {
+                return true;
+            }
+            // classes may also be added to a package directly by name
+            return container.isPackage() && ((JPackage) container)._getClass(className) != null;
+        }
+
+    }
+
+}
@@ -19,19 +19,34 @@ package org.jsonschema2pojo.util;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.sun.codemodel.JType;
 
-import org.apache.commons.lang3.text.WordUtils;
 import org.jsonschema2pojo.GenerationConfig;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static javax.lang.model.SourceVersion.isIdentifier;
 import static javax.lang.model.SourceVersion.isKeyword;
+import static org.apache.commons.lang3.ArrayUtils.contains;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.apache.commons.lang3.StringUtils.containsAny;
-import static org.apache.commons.lang3.StringUtils.remove;
 
 public class NameHelper {
 
+    /**
+     * The maximum number of property, getter and setter names remembered.
+     */
+    private static final int MAX_CACHED_NAMES = 4096;
+
     private final GenerationConfig generationConfig;
 
+    private final Map<NameKey, String> names = Collections.synchronizedMap(new LinkedHashMap<NameKey, String>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<NameKey, String> eldest) {
+            return size() > MAX_CACHED_NAMES;
+        }
+    });
+
     public NameHelper(GenerationConfig generationConfig) {
         this.generationConfig = generationConfig;
     }
@@ -41,17 +56,17 @@ public class NameHelper {
             return name;
         }
 
-        for (char character: name.toCharArray()) {
-            if (!Character.isJavaIdentifierPart(character)) {
-                name = name.replace(String.valueOf(character), "_");
-            }
+        StringBuilder legalName = new StringBuilder(name.length() + 1);
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            legalName.append(Character.isJavaIdentifierPart(character) ? character : '_');
         }
 
-        if (!Character.isJavaIdentifierStart(name.charAt(0))) {
-            name = "_" + name;
+        if (!Character.isJavaIdentifierStart(legalName.charAt(0))) {
+            legalName.insert(0, '_');
         }
 
-        return name;
+        return legalName.toString();
     }
 
     public String normalizeName(String name) {
@@ -62,16 +77,25 @@ public class NameHelper {
     public String capitalizeTrailingWords(String name) {
         char[] wordDelimiters = generationConfig.getPropertyWordDelimiters();
 
-        if (containsAny(name, wordDelimiters)) {
-            String capitalizedNodeName = WordUtils.capitalize(name, wordDelimiters);
-            name = name.charAt(0) + capitalizedNodeName.substring(1);
+        if (!containsAny(name, wordDelimiters)) {
+            return name;
+        }
 
-            for (char c : wordDelimiters) {
-                name = remove(name, c);
+        // drop the delimiters and title-case the character following each
+        // of them, leaving the first character as it is
+        StringBuilder capitalized = new StringBuilder(name.length());
+        boolean capitalizeNext = false;
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            if (contains(wordDelimiters, character)) {
+                capitalizeNext = true;
+            } else {
+                capitalized.append(capitalizeNext ? Character.toTitleCase(character) : character);
+                capitalizeNext = false;
             }
         }
 
-        return name;
+        return capitalized.toString();
     }
 
     private String makeLowerCamelCase(String name) {
@@ -87,6 +111,16 @@ public class NameHelper {
      * @return
      */
     public String getPropertyName(String jsonFieldName, JsonNode node) {
+        NameKey key = new NameKey(NameKind.PROPERTY, jsonFieldName, node);
+        String propertyName = names.get(key);
+        if (propertyName == null) {
+            propertyName = createPropertyName(jsonFieldName, node);
+            names.put(key, propertyName);
+        }
+        return propertyName;
+    }
+
+    private String createPropertyName(String jsonFieldName, JsonNode node) {
         jsonFieldName = getFieldName(jsonFieldName, node);
 
         jsonFieldName = replaceIllegalCharacters(jsonFieldName);
@@ -112,6 +146,16 @@ public class NameHelper {
      * @return
      */
     public String getSetterName(String propertyName, JsonNode node) {
+        NameKey key = new NameKey(NameKind.SETTER, propertyName, node);
+        String setterName = names.get(key);
+        if (setterName == null) {
+            setterName = createSetterName(propertyName, node);
+            names.put(key, setterName);
+        }
+        return setterName;
+    }
+
+    private String createSetterName(String propertyName, JsonNode node) {
         propertyName = getFieldName(propertyName, node);
 
         propertyName = replaceIllegalCharacters(propertyName);
@@ -149,9 +193,20 @@ public class NameHelper {
      * @return
      */
     public String getGetterName(String propertyName, JType type, JsonNode node) {
+        NameKind kind = type.equals(type.owner()._ref(boolean.class)) ? NameKind.BOOLEAN_GETTER : NameKind.GETTER;
+        NameKey key = new NameKey(kind, propertyName, node);
+        String getterName = names.get(key);
+        if (getterName == null) {
+            getterName = createGetterName(propertyName, kind, node);
+            names.put(key, getterName);
+        }
+        return getterName;
+    }
+
+    private String createGetterName(String propertyName, NameKind kind, JsonNode node) {
         propertyName = getFieldName(propertyName, node);
 
-        String prefix = type.equals(type.owner()._ref(boolean.class)) ? "is" : "get";
+        String prefix = kind == NameKind.BOOLEAN_GETTER ? "is" : "get";
         propertyName = replaceIllegalCharacters(propertyName);
         String getterName = prefix + capitalize(capitalizeTrailingWords(propertyName));
 
@@ -161,4 +216,48 @@ public class NameHelper {
 
         return getterName;
     }
+
+    private enum NameKind {
+        PROPERTY, GETTER, BOOLEAN_GETTER, SETTER
+    }
+
+    /**
+     * Identifies a derived name by everything it depends on: the kind of
+     * name, the JSON property name and the "javaName" given in the schema.
+     */
+    private static final class NameKey {
+
+        private final NameKind kind;
+        private final String name;
+        private final String javaName;
+
+        NameKey(NameKind kind, String name, JsonNode node) {
+            this.kind = kind;
+            this.name = name;
+            this.javaName = node != null && node.has("javaName") ? node.get("javaName").textValue() : null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof NameKey)) {
+                return false;
+            }
+            NameKey key = (NameKey) other;
+            return kind == key.kind && equal(name, key.name) && equal(javaName, key.javaName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = kind.hashCode();
+            result = 31 * result + (name == null ? 0 : name.hashCode());
+            result = 31 * result + (javaName == null ? 0 : javaName.hashCode());
+            return result;
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+
+    }
+
 }
@@ -18,11 +18,6 @@ package org.jsonschema2pojo.util;
 
 import java.util.List;
 
-import org.jsonschema2pojo.exception.GenerationException;
-
-import japa.parser.JavaParser;
-import japa.parser.ParseException;
-import japa.parser.ast.body.FieldDeclaration;
 import japa.parser.ast.type.ClassOrInterfaceType;
 import japa.parser.ast.type.ReferenceType;
 import japa.parser.ast.type.Type;
@@ -33,23 +28,33 @@ import com.sun.codemodel.JPackage;
 public class TypeUtil {
 
     public static JClass resolveType(JPackage _package, String typeDefinition) {
-        try {
-            FieldDeclaration fieldDeclaration = (FieldDeclaration) JavaParser.parseBodyDeclaration(typeDefinition + " foo;");
-            ClassOrInterfaceType c = (ClassOrInterfaceType) fieldDeclaration.getType().getChildrenNodes().get(0);
+        return resolveType(_package, typeDefinition, new ClassLookupCache());
+    }
 
-            return buildClass(_package, c, 0);
-        } catch (ParseException e) {
-            throw new GenerationException(e);
-        }
+    /**
+     * Resolves a (possibly generic) type expression to a class reference,
+     * reusing parsed expressions and class lookups from the given cache.
+     *
+     * @param _package
+     *            the package whose code model should own the reference
+     * @param typeDefinition
+     *            the type as written in the schema
+     * @param classLookupCache
+     *            the cache of this generation run
+     * @return a reference to the type
+     */
+    public static JClass resolveType(JPackage _package, String typeDefinition, ClassLookupCache classLookupCache) {
+        return buildClass(_package, classLookupCache.parseType(typeDefinition), 0, classLookupCache);
     }
 
-    private static JClass buildClass(JPackage _package, ClassOrInterfaceType c, int arrayCount) {
+    private static JClass buildClass(JPackage _package, ClassOrInterfaceType c, int arrayCount, ClassLookupCache classLookupCache) {
         final String packagePrefix = (c.getScope() != null) ? c.getScope().toString() + "." : "";
        
         JClass _class;
-        try {
-            _class = _package.owner().ref(Thread.currentThread().getContextClassLoader().loadClass(packagePrefix + c.getName()));
-        } catch (ClassNotFoundException e) {
+        Class<?> existingClass = classLookupCache.loadClass(packagePrefix + c.getName());
+        if (existingClass != null) {
+            _class = _package.owner().ref(existingClass);
+        } else {
             _class = _package.owner().ref(packagePrefix + c.getName());            
         }
 
@@ -62,7 +67,7 @@ public class TypeUtil {
             JClass[] genericArgumentClasses = new JClass[typeArgs.size()];
 
             for (int i=0; i<typeArgs.size(); i++) {
-                genericArgumentClasses[i] = buildClass(_package, (ClassOrInterfaceType) ((ReferenceType) typeArgs.get(i)).getType(), ((ReferenceType) typeArgs.get(i)).getArrayCount());
+                genericArgumentClasses[i] = buildClass(_package, (ClassOrInterfaceType) ((ReferenceType) typeArgs.get(i)).getType(), ((ReferenceType) typeArgs.get(i)).getArrayCount(), classLookupCache);
             }
             
             _class = _class.narrow(genericArgumentClasses);
@@ -0,0 +1,194 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class CachingHttpFetcherTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+
+    private final List<String> requests = new CopyOnWriteArrayList<String>();
+
+    private volatile String content = "{\"type\" : \"string\"}";
+    private volatile String etag = "\"v1\"";
+    private volatile String lastModified = null;
+    private volatile long delay = 0;
+
+    private File cacheDirectory;
+
+    @Before
+    public void startServer() throws IOException {
+        cacheDirectory = folder.newFolder("cache");
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+                String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+                requests.add(exchange.getRequestURI().getPath() + " " + ifNoneMatch + " " + ifModifiedSince);
+
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                if (exchange.getRequestURI().getPath().equals("/missing.json")) {
+                    exchange.sendResponseHeaders(404, -1);
+                } else if ((etag != null && etag.equals(ifNoneMatch)) || (lastModified != null && lastModified.equals(ifModifiedSince))) {
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    if (etag != null) {
+                        exchange.getResponseHeaders().set("ETag", etag);
+                    }
+                    if (lastModified != null) {
+                        exchange.getResponseHeaders().set("Last-Modified", lastModified);
+                    }
+                    byte[] body = content.getBytes(StandardCharsets.UTF_8);
+                    exchange.sendResponseHeaders(200, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void documentIsFetched() throws IOException {
+
+        byte[] fetched = new CachingHttpFetcher(null, false, 0).fetch(uri("/schema.json"));
+
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is(content));
+
+    }
+
+    @Test
+    public void cachedDocumentIsRevalidatedUsingETag() throws IOException {
+
+        new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+        byte[] fetched = new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is(content));
+        assertThat(requests, contains("/schema.json null null", "/schema.json \"v1\" null"));
+
+    }
+
+    @Test
+    public void cachedDocumentIsRevalidatedUsingLastModified() throws IOException {
+
+        etag = null;
+        lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+
+        new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+        byte[] fetched = new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is(content));
+        assertThat(requests.get(1), is("/schema.json null " + lastModified));
+
+    }
+
+    @Test
+    public void changedDocumentIsFetchedAgain() throws IOException {
+
+        new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+
+        content = "{\"type\" : \"integer\"}";
+        etag = "\"v2\"";
+
+        byte[] fetched = new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is("{\"type\" : \"integer\"}"));
+
+        fetched = new CachingHttpFetcher(cacheDirectory, true, 0).fetch(uri("/schema.json"));
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is("{\"type\" : \"integer\"}"));
+
+    }
+
+    @Test
+    public void offlineFetchUsesCacheWithoutRequests() throws IOException {
+
+        new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/schema.json"));
+        server.stop(0);
+
+        byte[] fetched = new CachingHttpFetcher(cacheDirectory, true, 0).fetch(uri("/schema.json"));
+
+        assertThat(new String(fetched, StandardCharsets.UTF_8), is(content));
+        assertThat(requests, hasSize(1));
+
+    }
+
+    @Test(expected = IOException.class)
+    public void offlineFetchOfUncachedDocumentFails() throws IOException {
+
+        new CachingHttpFetcher(cacheDirectory, true, 0).fetch(uri("/schema.json"));
+
+    }
+
+    @Test(expected = IOException.class)
+    public void errorResponseCausesIOException() throws IOException {
+
+        new CachingHttpFetcher(cacheDirectory, false, 0).fetch(uri("/missing.json"));
+
+    }
+
+    @Test(expected = SocketTimeoutException.class)
+    public void slowResponseTimesOut() throws IOException {
+
+        delay = 2000;
+
+        new CachingHttpFetcher(cacheDirectory, false, 100).fetch(uri("/schema.json"));
+
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+}
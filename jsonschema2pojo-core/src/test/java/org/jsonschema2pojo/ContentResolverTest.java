@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
 
 public class ContentResolverTest {
 
@@ -56,6 +57,28 @@ public class ContentResolverTest {
         assertThat(uriContent.path("description").asText().length(), is(greaterThan(0)));
     }
 
+    @Test
+    public void httpLinkIsResolvedUsingGivenFetcher() throws IOException {
+
+        URI httpUri = URI.create("https://example.com/schema/address.json");
+        HttpFetcher httpFetcher = mock(HttpFetcher.class);
+        when(httpFetcher.fetch(httpUri)).thenReturn("{\"type\" : \"string\"}".getBytes("utf-8"));
+
+        JsonNode uriContent = new ContentResolver(httpFetcher).resolve(httpUri);
+
+        assertThat(uriContent.path("type").asText(), is(equalTo("string")));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void failedFetchCausesIllegalArgumentException() throws IOException {
+
+        URI httpUri = URI.create("https://example.com/schema/address.json");
+        HttpFetcher httpFetcher = mock(HttpFetcher.class);
+        when(httpFetcher.fetch(httpUri)).thenThrow(new IOException("offline"));
+
+        new ContentResolver(httpFetcher).resolve(httpUri);
+    }
+
     @Test
     public void fileLinkIsResolvedToContent() throws IOException {
         
@@ -0,0 +1,91 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DocumentPrefetcherTest {
+
+    private final GenerationConfig config = new DefaultGenerationConfig();
+
+    @Test
+    public void referencedDocumentsAreReadOnce() throws URISyntaxException {
+
+        URI a = getClass().getResource("/schema/prefetch/a.json").toURI();
+        URI b = a.resolve("b.json");
+        URI c = a.resolve("c.json");
+
+        SchemaStore schemaStore = new SchemaStore(config);
+        schemaStore.contentResolver = spy(schemaStore.contentResolver);
+
+        new DocumentPrefetcher(schemaStore, 4).prefetch(asList(a), true);
+
+        verify(schemaStore.contentResolver, times(1)).resolve(a);
+        verify(schemaStore.contentResolver, times(1)).resolve(b);
+        verify(schemaStore.contentResolver, times(1)).resolve(c);
+        verify(schemaStore.contentResolver, times(1)).resolve(a.resolve("missing.json"));
+
+        assertThat(schemaStore.create(b).getContent().has("extends"), is(true));
+        verify(schemaStore.contentResolver, times(1)).resolve(b);
+
+    }
+
+    @Test
+    public void referencesAreNotFollowedUnlessRequested() throws URISyntaxException {
+
+        URI a = getClass().getResource("/schema/prefetch/a.json").toURI();
+
+        SchemaStore schemaStore = new SchemaStore(config);
+        schemaStore.contentResolver = spy(schemaStore.contentResolver);
+
+        new DocumentPrefetcher(schemaStore, 4).prefetch(asList(a), false);
+
+        verify(schemaStore.contentResolver, times(1)).resolve(a);
+        verify(schemaStore.contentResolver, never()).resolve(a.resolve("b.json"));
+
+    }
+
+    @Test
+    public void referencesToOtherDocumentsAreFound() throws Exception {
+
+        URI base = URI.create("http://example.com/schemas/a.json");
+
+        assertThat(DocumentPrefetcher.findReferences(base, new ObjectMapper().readTree(
+                "{\"properties\" : {"
+                        + "\"p1\" : {\"$ref\" : \"#/definitions/p1\"},"
+                        + "\"p2\" : {\"$ref\" : \"b.json#/definitions/p2\"},"
+                        + "\"p3\" : {\"type\" : \"array\", \"items\" : [{\"$ref\" : \"../c.json\"}]},"
+                        + "\"p4\" : {\"extends\" : \"http://example.com/d.json\"},"
+                        + "\"p5\" : {\"$ref\" : \"a.json#\"}}}")),
+                containsInAnyOrder(
+                        URI.create("http://example.com/schemas/b.json"),
+                        URI.create("http://example.com/c.json"),
+                        URI.create("http://example.com/d.json")));
+
+    }
+
+}
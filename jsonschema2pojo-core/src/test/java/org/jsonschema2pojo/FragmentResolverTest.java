@@ -138,4 +138,41 @@ public class FragmentResolverTest {
 
     }
 
+    @Test
+    public void samePathIsResolvedAgainstEachTreeGiven() {
+
+        ObjectNode root1 = new ObjectMapper().createObjectNode();
+        ObjectNode root2 = new ObjectMapper().createObjectNode();
+
+        ObjectNode a1 = root1.putObject("definitions").putObject("a");
+        ObjectNode a2 = root2.putObject("definitions").putObject("a");
+
+        assertThat((ObjectNode) resolver.resolve(root1, "#/definitions/a"), is(sameInstance(a1)));
+        assertThat((ObjectNode) resolver.resolve(root2, "#/definitions/a"), is(sameInstance(a2)));
+        assertThat((ObjectNode) resolver.resolve(root1, "#/definitions/a"), is(sameInstance(a1)));
+
+    }
+
+    @Test
+    public void encodedPartsAreDecoded() {
+
+        ObjectNode root = new ObjectMapper().createObjectNode();
+
+        ObjectNode a = root.putObject("definitions").putObject("a b");
+
+        assertThat((ObjectNode) resolver.resolve(root, "#/definitions/a%20b"), is(sameInstance(a)));
+
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void pathBeyondTheEndOfAnArrayThrowsIllegalArgumentException() {
+
+        ObjectNode root = new ObjectMapper().createObjectNode();
+
+        root.putArray("a").add(root.objectNode());
+
+        resolver.resolve(root, "#/a/1/b");
+
+    }
+
 }
@@ -0,0 +1,97 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JMod;
+
+public class ParallelFileCodeWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void outputIsIdenticalToSequentialWriter() throws IOException, JClassAlreadyExistsException {
+
+        JCodeModel codeModel = createCodeModel();
+
+        File sequentialOutput = folder.newFolder("sequential");
+        codeModel.build(new FileCodeWriterWithEncoding(sequentialOutput, "UTF-8"), new FileCodeWriterWithEncoding(sequentialOutput, "UTF-8"));
+
+        File parallelOutput = folder.newFolder("parallel");
+        codeModel.build(new ParallelFileCodeWriter(parallelOutput, "UTF-8", 4), new FileCodeWriterWithEncoding(parallelOutput, "UTF-8"));
+
+        for (int i = 0; i < 50; i++) {
+            String path = "com/example/pkg" + (i % 5) + "/Type" + i + ".java";
+            assertThat(FileUtils.readFileToString(new File(parallelOutput, path), "UTF-8"),
+                    is(equalTo(FileUtils.readFileToString(new File(sequentialOutput, path), "UTF-8"))));
+        }
+    }
+
+    @Test
+    public void charactersThatCantBeEncodedAreEscaped() throws IOException, JClassAlreadyExistsException {
+
+        JCodeModel codeModel = createCodeModel();
+
+        File output = folder.newFolder("ascii");
+        codeModel.build(new ParallelFileCodeWriter(output, "US-ASCII", 2), new FileCodeWriterWithEncoding(output, "US-ASCII"));
+
+        String source = FileUtils.readFileToString(new File(output, "com/example/pkg0/Type0.java"), "US-ASCII");
+
+        assertThat(source, containsString("\\u00e9t\\u00e9"));
+    }
+
+    @Test
+    public void charactersThatCanBeEncodedAreNotEscaped() throws IOException, JClassAlreadyExistsException {
+
+        JCodeModel codeModel = createCodeModel();
+
+        File output = folder.newFolder("utf8");
+        codeModel.build(new ParallelFileCodeWriter(output, "UTF-8", 2), new FileCodeWriterWithEncoding(output, "UTF-8"));
+
+        String source = FileUtils.readFileToString(new File(output, "com/example/pkg0/Type0.java"), "UTF-8");
+
+        assertThat(source, containsString("été"));
+    }
+
+    private JCodeModel createCodeModel() throws JClassAlreadyExistsException {
+        JCodeModel codeModel = new JCodeModel();
+
+        for (int i = 0; i < 50; i++) {
+            JDefinedClass type = codeModel._class("com.example.pkg" + (i % 5) + ".Type" + i);
+            type.javadoc().append("Summer is été");
+            type.field(JMod.PRIVATE, String.class, "value", JExpr.lit("été\t" + i));
+        }
+
+        return codeModel;
+    }
+
+}
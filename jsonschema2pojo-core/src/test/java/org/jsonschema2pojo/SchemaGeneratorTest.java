@@ -0,0 +1,168 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+
+import org.apache.commons.io.FileUtils;
+import org.jsonschema2pojo.exception.GenerationException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class SchemaGeneratorTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void newlineDelimitedValuesAreMergedIntoOneSchema() throws IOException {
+        URL example = getClass().getResource("/example/events.ndjson");
+
+        ObjectNode schema = new SchemaGenerator().schemaFromExample(example);
+
+        assertThat(schema, is(equalTo(OBJECT_MAPPER.readTree("{\"type\":\"object\",\"properties\":{"
+                + "\"id\":{\"type\":\"integer\"},"
+                + "\"tags\":{\"type\":\"array\",\"items\":{\"type\":\"string\"}},"
+                + "\"location\":{\"type\":\"object\",\"properties\":{\"lat\":{\"type\":\"integer\"},\"lon\":{\"type\":\"number\"}}},"
+                + "\"score\":{\"type\":\"number\"},"
+                + "\"parent\":{\"type\":\"object\",\"properties\":{\"id\":{\"type\":\"integer\"}}}}}"))));
+    }
+
+    @Test
+    public void arrayItemsAreMergedDeeply() throws IOException {
+        ObjectNode schema = new SchemaGenerator().schemaFromExample(OBJECT_MAPPER.readTree("[{\"a\":{\"b\":1}},{\"a\":{\"c\":\"x\"}},[1]]"));
+
+        assertThat(schema.get("type").asText(), is("array"));
+        assertThat(schema.get("items").get("type").asText(), is("any"));
+
+        schema = new SchemaGenerator().schemaFromExample(OBJECT_MAPPER.readTree("[{\"a\":{\"b\":1}},{\"a\":{\"c\":\"x\"}}]"));
+
+        assertThat(schema.at("/items/properties/a/properties/b/type").asText(), is("integer"));
+        assertThat(schema.at("/items/properties/a/properties/c/type").asText(), is("string"));
+    }
+
+    @Test
+    public void multipleExamplesAreMerged() throws IOException {
+        File first = folder.newFile("first.json");
+        File second = folder.newFile("second.json");
+        FileUtils.write(first, "{\"a\":1}");
+        FileUtils.write(second, "{\"b\":true}");
+
+        ObjectNode schema = new SchemaGenerator().schemaFromExamples(asList(first.toURI().toURL(), second.toURI().toURL()));
+
+        assertThat(schema.at("/properties/a/type").asText(), is("integer"));
+        assertThat(schema.at("/properties/b/type").asText(), is("boolean"));
+    }
+
+    @Test
+    public void largeArraysCanBeSampled() throws IOException {
+        StringBuilder items = new StringBuilder("[");
+        for (int i = 0; i < 100000; i++) {
+            items.append(i == 0 ? "" : ",").append("{\"p").append(i).append("\":1}");
+        }
+        File example = folder.newFile("large.json");
+        FileUtils.write(example, items.append("]").toString());
+
+        GenerationConfig config = mock(GenerationConfig.class);
+        when(config.getExampleArraySampleSize()).thenReturn(100);
+        ObjectNode sampled = new SchemaGenerator(config).schemaFromExample(example.toURI().toURL());
+        ObjectNode sampledAgain = new SchemaGenerator(config).schemaFromExample(example.toURI().toURL());
+
+        int sampledProperties = sampled.at("/items/properties").size();
+        assertThat(sampledProperties, is(both(greaterThanOrEqualTo(100)).and(lessThan(2000))));
+        assertThat(sampled.at("/items/properties/p99").isMissingNode(), is(false));
+        assertThat(sampledAgain, is(equalTo(sampled)));
+
+        assertThat(new SchemaGenerator().schemaFromExample(example.toURI().toURL()).at("/items/properties").size(), is(100000));
+    }
+
+    @Test(expected = GenerationException.class)
+    public void emptyExampleIsRejected() throws IOException {
+        new SchemaGenerator().schemaFromExample(folder.newFile("empty.json").toURI().toURL());
+    }
+
+    @Test
+    public void integersWiderThanIntAreGivenAJavaType() throws IOException {
+        ObjectNode schema = new SchemaGenerator().schemaFromExample(OBJECT_MAPPER.readTree(
+                "{\"small\":[1,-2],\"large\":[1,12345678901],\"huge\":[1,123456789012345678901234567890]}"));
+
+        assertThat(schema.at("/properties/small/items/javaType").isMissingNode(), is(true));
+        assertThat(schema.at("/properties/large/items/javaType").asText(), is("java.lang.Long"));
+        assertThat(schema.at("/properties/huge/items/javaType").asText(), is("java.math.BigInteger"));
+
+        GenerationConfig config = mock(GenerationConfig.class);
+        when(config.isUseLongIntegers()).thenReturn(true);
+        schema = new SchemaGenerator(config).schemaFromExample(OBJECT_MAPPER.readTree("{\"large\":12345678901}"));
+        assertThat(schema.at("/properties/large/javaType").isMissingNode(), is(true));
+    }
+
+    @Test
+    public void formatsAreInferredWhenEveryValueMatches() throws IOException {
+        String example = "["
+                + "{\"when\":\"2016-01-01T10:00:00Z\",\"day\":\"2016-01-01\",\"id\":\"5b4d4a3e-3c2f-4f6e-9d1a-1b2c3d4e5f60\",\"link\":\"http://example.com/a\",\"text\":\"2016-01-01\"},"
+                + "{\"when\":\"2016-01-02T10:00:00.123+01:00\",\"day\":\"2016-01-02\",\"link\":\"https://example.com/b?c=d\",\"text\":\"tomorrow\"}"
+                + "]";
+
+        GenerationConfig config = mock(GenerationConfig.class);
+        when(config.isInferExampleFormats()).thenReturn(true);
+        ObjectNode schema = new SchemaGenerator(config).schemaFromExample(OBJECT_MAPPER.readTree(example));
+
+        assertThat(schema.at("/items/properties/when/format").asText(), is("date-time"));
+        assertThat(schema.at("/items/properties/day/format").asText(), is("date"));
+        assertThat(schema.at("/items/properties/id/format").asText(), is("uuid"));
+        assertThat(schema.at("/items/properties/link/format").asText(), is("uri"));
+        assertThat(schema.at("/items/properties/text/format").isMissingNode(), is(true));
+
+        schema = new SchemaGenerator().schemaFromExample(OBJECT_MAPPER.readTree(example));
+        assertThat(schema.at("/items/properties/when/format").isMissingNode(), is(true));
+    }
+
+    @Test
+    public void repeatedLowCardinalityStringsBecomeEnums() throws IOException {
+        String example = "["
+                + "{\"status\":\"active\",\"name\":\"a\",\"kind\":\"fooBar\"},"
+                + "{\"status\":\"inactive\",\"name\":\"b\",\"kind\":\"foo_bar\"},"
+                + "{\"status\":\"active\",\"name\":\"c\",\"kind\":\"fooBar\"},"
+                + "{\"status\":\"inactive\",\"name\":\"d\",\"kind\":\"foo_bar\"}"
+                + "]";
+
+        GenerationConfig config = mock(GenerationConfig.class);
+        when(config.getMaxExampleEnumValues()).thenReturn(3);
+        ObjectNode schema = new SchemaGenerator(config).schemaFromExample(OBJECT_MAPPER.readTree(example));
+
+        assertThat(schema.at("/items/properties/status/enum"), is(equalTo(OBJECT_MAPPER.readTree("[\"active\",\"inactive\"]"))));
+        assertThat(schema.at("/items/properties/name/enum").isMissingNode(), is(true));
+        assertThat(schema.at("/items/properties/kind/enum").isMissingNode(), is(true));
+
+        schema = new SchemaGenerator().schemaFromExample(OBJECT_MAPPER.readTree(example));
+        assertThat(schema.at("/items/properties/status/enum").isMissingNode(), is(true));
+    }
+
+}
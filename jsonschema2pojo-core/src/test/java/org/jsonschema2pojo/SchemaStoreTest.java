@@ -23,6 +23,12 @@ import static org.mockito.Mockito.*;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
@@ -142,4 +148,75 @@ public class SchemaStoreTest {
 
     }
 
+    @Test
+    public void concurrentRequestsReadEachDocumentOnce() throws Exception {
+
+        final URI schemaUri = getClass().getResource("/schema/address.json").toURI();
+        final URI fragmentUri = URI.create(schemaUri + "#/properties/post-office-box");
+
+        final SchemaStore schemaStore = new SchemaStore(config);
+        schemaStore.contentResolver = spy(schemaStore.contentResolver);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Schema>> results = new ArrayList<Future<Schema>>();
+            for (int i = 0; i < 32; i++) {
+                final URI uri = i % 2 == 0 ? schemaUri : fragmentUri;
+                results.add(executor.submit(new Callable<Schema>() {
+                    @Override
+                    public Schema call() {
+                        return schemaStore.create(uri);
+                    }
+                }));
+            }
+
+            for (Future<Schema> result : results) {
+                assertThat(result.get(), is(sameInstance(schemaStore.create(result.get().getId()))));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(schemaStore.contentResolver, times(1)).resolve(schemaUri);
+
+    }
+
+    @Test
+    public void contentOfGeneratedSchemasIsReleasedAndReadAgainWhenNeeded() throws URISyntaxException {
+
+        URI addressSchemaUri = getClass().getResource("/schema/address.json").toURI();
+        URI enumSchemaUri = getClass().getResource("/schema/enum.json").toURI();
+
+        SchemaStore schemaStore = new SchemaStore(config);
+        schemaStore.setMaxCachedDocuments(1);
+        schemaStore.contentResolver = spy(schemaStore.contentResolver);
+
+        Schema addressSchema = schemaStore.create(addressSchemaUri);
+        addressSchema.setJavaType(mock(JDefinedClass.class));
+        schemaStore.create(enumSchemaUri);
+
+        assertThat(addressSchema.getContent().has("description"), is(true));
+        assertThat(schemaStore.create(addressSchemaUri), is(sameInstance(addressSchema)));
+        verify(schemaStore.contentResolver, times(2)).resolve(addressSchemaUri);
+
+    }
+
+    @Test
+    public void contentOfSchemasNotYetGeneratedIsKept() throws URISyntaxException {
+
+        URI addressSchemaUri = getClass().getResource("/schema/address.json").toURI();
+        URI enumSchemaUri = getClass().getResource("/schema/enum.json").toURI();
+
+        SchemaStore schemaStore = new SchemaStore(config);
+        schemaStore.setMaxCachedDocuments(1);
+        schemaStore.contentResolver = spy(schemaStore.contentResolver);
+
+        Schema addressSchema = schemaStore.create(addressSchemaUri);
+        schemaStore.create(enumSchemaUri);
+
+        assertThat(addressSchema.getContent().has("description"), is(true));
+        verify(schemaStore.contentResolver, times(1)).resolve(addressSchemaUri);
+
+    }
+
 }
@@ -0,0 +1,120 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JExpr;
+import com.sun.codemodel.JMod;
+
+public class WriteIfChangedCodeWriterTest {
+
+    private static final long EARLIER = 1000000000000L;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File output;
+
+    @Before
+    public void writeInitialOutput() throws IOException, JClassAlreadyExistsException {
+        output = folder.newFolder("output");
+        build(createCodeModel("a"));
+
+        for (File file : FileUtils.listFiles(output, null, true)) {
+            assertThat(file.setLastModified(EARLIER), is(true));
+        }
+    }
+
+    @Test
+    public void unchangedFilesAreNotWritten() throws IOException, JClassAlreadyExistsException {
+
+        build(createCodeModel("a"));
+
+        assertThat(new File(output, "com/example/Type0.java").lastModified(), is(EARLIER));
+        assertThat(new File(output, "com/example/Type1.java").lastModified(), is(EARLIER));
+    }
+
+    @Test
+    public void changedFilesAreWritten() throws IOException, JClassAlreadyExistsException {
+
+        JCodeModel codeModel = createCodeModel("a");
+        codeModel._getClass("com.example.Type1").field(JMod.PRIVATE, int.class, "other");
+        build(codeModel);
+
+        assertThat(new File(output, "com/example/Type0.java").lastModified(), is(EARLIER));
+        assertThat(new File(output, "com/example/Type1.java").lastModified(), is(not(EARLIER)));
+        assertThat(FileUtils.readFileToString(new File(output, "com/example/Type1.java"), "UTF-8"), containsString("other"));
+    }
+
+    @Test
+    public void filesOfTheSameSizeAreComparedByContent() throws IOException, JClassAlreadyExistsException {
+
+        build(createCodeModel("b"));
+
+        assertThat(new File(output, "com/example/Type0.java").lastModified(), is(not(EARLIER)));
+        assertThat(FileUtils.readFileToString(new File(output, "com/example/Type0.java"), "UTF-8"), containsString("\"b\""));
+    }
+
+    @Test
+    public void staleFilesAreRemovedOnlyWhenRequested() throws IOException, JClassAlreadyExistsException {
+
+        JCodeModel codeModel = new JCodeModel();
+        codeModel._class("com.example.Type0").field(JMod.PRIVATE, String.class, "value", JExpr.lit("a"));
+
+        build(codeModel);
+
+        assertThat(new File(output, "com/example/other/Type2.java").exists(), is(true));
+
+        build(codeModel).removeStaleFiles();
+
+        assertThat(new File(output, "com/example/Type0.java").lastModified(), is(EARLIER));
+        assertThat(new File(output, "com/example/Type1.java").exists(), is(false));
+        assertThat(new File(output, "com/example/other").exists(), is(false));
+    }
+
+    private WriteIfChangedCodeWriter build(JCodeModel codeModel) throws IOException {
+        WriteIfChangedCodeWriter writer = new WriteIfChangedCodeWriter(output, "UTF-8", 2);
+        codeModel.build(writer, writer);
+        return writer;
+    }
+
+    private JCodeModel createCodeModel(String value) throws JClassAlreadyExistsException {
+        JCodeModel codeModel = new JCodeModel();
+
+        JDefinedClass type0 = codeModel._class("com.example.Type0");
+        type0.field(JMod.PRIVATE, String.class, "value", JExpr.lit(value));
+        codeModel._class("com.example.Type1").field(JMod.PRIVATE, String.class, "value");
+        codeModel._class("com.example.other.Type2");
+
+        return codeModel;
+    }
+
+}
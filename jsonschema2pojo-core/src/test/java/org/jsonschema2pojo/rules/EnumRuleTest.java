@@ -25,7 +25,9 @@ import com.sun.codemodel.JPackage;
 import com.sun.codemodel.JType;
 
 import org.jsonschema2pojo.Annotator;
+import org.jsonschema2pojo.DefaultGenerationConfig;
 import org.jsonschema2pojo.Schema;
+import org.jsonschema2pojo.util.ClassNameReservations;
 import org.jsonschema2pojo.util.NameHelper;
 import org.junit.Before;
 import org.junit.Test;
@@ -52,6 +54,8 @@ public class EnumRuleTest {
     public void wireUpConfig() {
         when(ruleFactory.getNameHelper()).thenReturn(nameHelper);
         when(ruleFactory.getAnnotator()).thenReturn(annotator);
+        when(ruleFactory.getClassNameReservations()).thenReturn(new ClassNameReservations());
+        when(ruleFactory.getGenerationConfig()).thenReturn(new DefaultGenerationConfig());
     }
 
     @Test
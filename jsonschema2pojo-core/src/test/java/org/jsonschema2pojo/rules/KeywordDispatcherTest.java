@@ -0,0 +1,97 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.rules;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsonschema2pojo.Schema;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class KeywordDispatcherTest {
+
+    private final List<String> applied = new ArrayList<String>();
+
+    @Test
+    public void rulesAreAppliedInRegistrationOrder() throws Exception {
+
+        KeywordDispatcher<Object, Object> dispatcher = new KeywordDispatcher<Object, Object>()
+                .register("title", new RecordingRule("title"))
+                .register("description", new RecordingRule("description"))
+                .register("required", new RecordingRule("required"));
+
+        JsonNode node = new ObjectMapper().readTree("{\"required\" : true, \"type\" : \"string\", \"title\" : \"a title\"}");
+
+        dispatcher.apply("foo", node, new Object(), mock(Schema.class));
+
+        assertThat(applied, contains("title=\"a title\"", "required=true"));
+
+    }
+
+    @Test
+    public void matchCanBeAppliedToManyTargets() throws Exception {
+
+        @SuppressWarnings("unchecked")
+        Rule<Object, Object> rule = mock(Rule.class);
+        KeywordDispatcher<Object, Object> dispatcher = new KeywordDispatcher<Object, Object>().register("title", rule);
+
+        JsonNode node = new ObjectMapper().readTree("{\"title\" : \"a title\"}");
+        Object field = new Object();
+        Object getter = new Object();
+
+        KeywordDispatcher<Object, Object>.Match match = dispatcher.match(node);
+        match.apply("foo", field, null);
+        match.apply("foo", getter, null);
+
+        verify(rule).apply("foo", node.get("title"), field, null);
+        verify(rule).apply("foo", node.get("title"), getter, null);
+
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void keywordCanOnlyBeRegisteredOnce() {
+
+        new KeywordDispatcher<Object, Object>()
+                .register("title", new RecordingRule("title"))
+                .register("title", new RecordingRule("title"));
+
+    }
+
+    private class RecordingRule implements Rule<Object, Object> {
+
+        private final String keyword;
+
+        RecordingRule(String keyword) {
+            this.keyword = keyword;
+        }
+
+        @Override
+        public Object apply(String nodeName, JsonNode node, Object generatableType, Schema currentSchema) {
+            applied.add(keyword + "=" + node);
+            return generatableType;
+        }
+
+    }
+
+}
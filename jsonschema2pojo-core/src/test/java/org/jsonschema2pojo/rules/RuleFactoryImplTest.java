@@ -70,6 +70,23 @@ public class RuleFactoryImplTest {
 
     }
 
+    @Test
+    public void factoryMethodsReuseRules() {
+
+        RuleFactory ruleFactory = new RuleFactory();
+
+        assertThat(ruleFactory.getObjectRule(), is(sameInstance(ruleFactory.getObjectRule())));
+
+        assertThat(ruleFactory.getPropertyRule(), is(sameInstance(ruleFactory.getPropertyRule())));
+
+        assertThat(ruleFactory.getTypeRule(), is(sameInstance(ruleFactory.getTypeRule())));
+
+        assertThat(ruleFactory.getPropertyCommentRules(), is(sameInstance(ruleFactory.getPropertyCommentRules())));
+
+        assertThat(ruleFactory.getClassCommentRules(), is(sameInstance(ruleFactory.getClassCommentRules())));
+
+    }
+
     @Test
     public void generationConfigIsReturned() {
 
@@ -0,0 +1,87 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.util;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jsonschema2pojo.exception.GenerationException;
+import org.junit.Test;
+
+import com.sun.codemodel.JClass;
+import com.sun.codemodel.JCodeModel;
+
+public class ClassLookupCacheTest {
+
+    private final ClassLookupCache cache = new ClassLookupCache();
+
+    @Test
+    public void hitsAndMissesAreLookedUpOnce() {
+        RecordingClassLoader classLoader = new RecordingClassLoader();
+        ClassLoader original = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(classLoader);
+        try {
+            for (int i = 0; i < 3; i++) {
+                assertThat(cache.loadClass("java.util.ArrayList"), is(equalTo((Object) ArrayList.class)));
+                assertThat(cache.loadClass("com.example.NotYetGenerated"), is(nullValue()));
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader(original);
+        }
+
+        assertThat(classLoader.requested, contains("java.util.ArrayList", "com.example.NotYetGenerated"));
+    }
+
+    @Test
+    public void forNameUsesTheLibraryClassLoader() {
+        assertThat(cache.forName(ClassLookupCacheTest.class.getName()), is(equalTo((Object) ClassLookupCacheTest.class)));
+        assertThat(cache.forName("com.example.Missing"), is(nullValue()));
+    }
+
+    @Test
+    public void parsedTypesAreReused() {
+        assertThat(cache.parseType("java.util.Map<String, java.util.List<Long>>"), is(sameInstance(cache.parseType("java.util.Map<String, java.util.List<Long>>"))));
+
+        JClass resolved = TypeUtil.resolveType(new JCodeModel()._package("com.example"), "java.util.Map<java.lang.String, java.util.List<java.lang.Long>>", cache);
+        assertThat(resolved.fullName(), is("java.util.Map<java.lang.String,java.util.List<java.lang.Long>>"));
+    }
+
+    @Test(expected = GenerationException.class)
+    public void invalidTypeExpressionsAreReported() {
+        cache.parseType("java.util.List<");
+    }
+
+    private static class RecordingClassLoader extends ClassLoader {
+
+        private final List<String> requested = new ArrayList<String>();
+
+        RecordingClassLoader() {
+            super(ClassLookupCacheTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            requested.add(name);
+            return super.loadClass(name, resolve);
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.util;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.sun.codemodel.ClassType;
+import com.sun.codemodel.JClassAlreadyExistsException;
+import com.sun.codemodel.JCodeModel;
+import com.sun.codemodel.JDefinedClass;
+import com.sun.codemodel.JPackage;
+
+public class ClassNameReservationsTest {
+
+    private final ClassNameReservations reservations = new ClassNameReservations();
+    private final JPackage _package = new JCodeModel()._package("com.example");
+
+    @Test
+    public void collisionsAreSuffixedWithUnderscores() {
+        assertThat(reservations.reserve(_package, "Item"), is("Item"));
+        assertThat(reservations.reserve(_package, "Item"), is("Item_"));
+        assertThat(reservations.reserve(_package, "Item_"), is("Item__"));
+        assertThat(reservations.reserve(_package, "Item"), is("Item___"));
+        assertThat(reservations.reserve(_package, "item"), is("item"));
+    }
+
+    @Test
+    public void ignoreCaseReservationsAvoidNamesDifferingOnlyInCase() {
+        assertThat(reservations.reserve(_package, "StatusEnum"), is("StatusEnum"));
+        assertThat(reservations.reserveIgnoreCase(_package, "statusEnum"), is("statusEnum_"));
+        assertThat(reservations.reserveIgnoreCase(_package, "STATUSENUM"), is("STATUSENUM__"));
+    }
+
+    @Test
+    public void namesDifferingOnlyInCaseAreAvoidedOnCaseInsensitiveFileSystems() throws JClassAlreadyExistsException {
+        ClassNameReservations caseInsensitiveReservations = new ClassNameReservations(false);
+        _package._class("FooBar");
+
+        assertThat(caseInsensitiveReservations.reserve(_package, "Foobar"), is("Foobar_"));
+        assertThat(caseInsensitiveReservations.reserve(_package, "FOOBAR"), is("FOOBAR__"));
+        assertThat(caseInsensitiveReservations.reserve(_package, "Other"), is("Other"));
+        assertThat(caseInsensitiveReservations.reserve(_package, "other"), is("other_"));
+    }
+
+    @Test
+    public void existingAndRegisteredClassesAreAvoided() throws JClassAlreadyExistsException {
+        _package._class("Existing");
+        JDefinedClass outer = _package._class("Outer");
+        outer._class("Inner");
+
+        assertThat(reservations.reserve(_package, "Existing"), is("Existing_"));
+        assertThat(reservations.reserveIgnoreCase(outer, "INNER"), is("INNER_"));
+
+        // created by name after the package was indexed
+        _package.owner()._class("com.example.Direct");
+        assertThat(reservations.reserve(_package, "Direct"), is("Direct_"));
+
+        JDefinedClass registered = _package.owner()._class("com.example.Registered", ClassType.ENUM);
+        reservations.register(registered);
+        assertThat(reservations.reserveIgnoreCase(_package, "registered"), is("registered_"));
+    }
+
+    @Test
+    public void concurrentReservationsAreDistinct() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> names = new ArrayList<Future<String>>();
+            for (int i = 0; i < 400; i++) {
+                names.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return reservations.reserveIgnoreCase(_package, "Properties");
+                    }
+                }));
+            }
+
+            Set<String> distinct = new HashSet<String>();
+            for (Future<String> name : names) {
+                distinct.add(name.get());
+            }
+            assertThat(distinct.size(), is(400));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.util;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.jsonschema2pojo.DefaultGenerationConfig;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.codemodel.JCodeModel;
+
+public class NameHelperTest {
+
+    private final NameHelper nameHelper = new NameHelper(new DefaultGenerationConfig());
+
+    @Test
+    public void illegalCharactersAreReplacedInOnePass() {
+        assertThat(NameHelper.replaceIllegalCharacters("valid$Name"), is("valid$Name"));
+        assertThat(NameHelper.replaceIllegalCharacters("a.b/c#d"), is("a_b_c_d"));
+        assertThat(NameHelper.replaceIllegalCharacters(".name"), is("_name"));
+        assertThat(NameHelper.replaceIllegalCharacters("9lives"), is("_9lives"));
+    }
+
+    @Test
+    public void trailingWordsAreCapitalizedAndDelimitersRemoved() {
+        assertThat(nameHelper.capitalizeTrailingWords("first-second_third"), is("firstSecondThird"));
+        assertThat(nameHelper.capitalizeTrailingWords("-leading"), is("Leading"));
+        assertThat(nameHelper.capitalizeTrailingWords("plain"), is("plain"));
+    }
+
+    @Test
+    public void accessorNamesDependOnJavaNameAndType() {
+        JCodeModel codeModel = new JCodeModel();
+        ObjectNode renamed = JsonNodeFactory.instance.objectNode().put("javaName", "renamed");
+
+        assertThat(nameHelper.getPropertyName("some-value", null), is("someValue"));
+        assertThat(nameHelper.getPropertyName("some-value", renamed), is("renamed"));
+        assertThat(nameHelper.getPropertyName("class", null), is("_class"));
+
+        assertThat(nameHelper.getGetterName("some-value", codeModel.BOOLEAN, null), is("isSomeValue"));
+        assertThat(nameHelper.getGetterName("some-value", codeModel.ref(String.class), null), is("getSomeValue"));
+        assertThat(nameHelper.getGetterName("class", codeModel.INT, null), is("getClass_"));
+
+        assertThat(nameHelper.getSetterName("some-value", null), is("setSomeValue"));
+        assertThat(nameHelper.getSetterName("some-value", renamed), is("setRenamed"));
+    }
+
+}
@@ -50,6 +50,24 @@ public class JsonSchemaExtension implements GenerationConfig {
   boolean includeToString
   boolean initializeCollections
   String outputEncoding
+  int parallelism
+  boolean incremental
+  boolean writeOnlyChangedFiles
+  int maxCachedDocuments
+  File httpCacheDirectory
+  boolean offline
+  int httpTimeout
+  boolean prefetchReferences
+  int exampleArraySampleSize
+  boolean inferExampleFormats
+  int maxExampleEnumValues
+  boolean useFieldwiseHashcodeAndEquals
+  boolean useFieldwiseToString
+  boolean useEnumSwitchLookup
+  boolean useIndexedDynamicAccessors
+  boolean useLazyAdditionalProperties
+  boolean useLazyCollectionDefaults
+  boolean useStaticDefaultConstants
   boolean parcelable
   boolean serializable
   char[] propertyWordDelimiters
@@ -107,6 +125,24 @@ public class JsonSchemaExtension implements GenerationConfig {
     includeAccessors = true
     targetVersion = '1.6'
     includeDynamicAccessors = false
+    parallelism = 1
+    incremental = false
+    writeOnlyChangedFiles = false
+    maxCachedDocuments = 0
+    httpCacheDirectory = null
+    offline = false
+    httpTimeout = 0
+    prefetchReferences = false
+    exampleArraySampleSize = 0
+    inferExampleFormats = false
+    maxExampleEnumValues = 0
+    useFieldwiseHashcodeAndEquals = false
+    useFieldwiseToString = false
+    useEnumSwitchLookup = false
+    useIndexedDynamicAccessors = false
+    useLazyAdditionalProperties = false
+    useLazyCollectionDefaults = false
+    useStaticDefaultConstants = false
   }
 
   @Override
@@ -176,6 +212,24 @@ public class JsonSchemaExtension implements GenerationConfig {
        |fileExtensions = ${Arrays.toString(fileExtensions)}
        |targetVersion = ${targetVersion}
        |includeDynamicAccessors = ${includeDynamicAccessors}
+       |parallelism = ${parallelism}
+       |incremental = ${incremental}
+       |writeOnlyChangedFiles = ${writeOnlyChangedFiles}
+       |maxCachedDocuments = ${maxCachedDocuments}
+       |httpCacheDirectory = ${httpCacheDirectory}
+       |offline = ${offline}
+       |httpTimeout = ${httpTimeout}
+       |prefetchReferences = ${prefetchReferences}
+       |exampleArraySampleSize = ${exampleArraySampleSize}
+       |inferExampleFormats = ${inferExampleFormats}
+       |maxExampleEnumValues = ${maxExampleEnumValues}
+       |useFieldwiseHashcodeAndEquals = ${useFieldwiseHashcodeAndEquals}
+       |useFieldwiseToString = ${useFieldwiseToString}
+       |useEnumSwitchLookup = ${useEnumSwitchLookup}
+       |useIndexedDynamicAccessors = ${useIndexedDynamicAccessors}
+       |useLazyAdditionalProperties = ${useLazyAdditionalProperties}
+       |useLazyCollectionDefaults = ${useLazyCollectionDefaults}
+       |useStaticDefaultConstants = ${useStaticDefaultConstants}
      """.stripMargin()
   }
 }
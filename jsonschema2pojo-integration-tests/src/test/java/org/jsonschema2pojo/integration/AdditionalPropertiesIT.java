@@ -270,6 +270,62 @@ public class AdditionalPropertiesIT {
         assertThat(jsonNode.has("additionalProperties"), is(false));
     }
 
+    @Test
+    public void lazyAdditionalPropertiesShareAnEmptyMapUntilAPropertyIsAdded() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/additionalProperties/defaultAdditionalProperties.json", "com.example", config("useLazyAdditionalProperties", true));
+
+        Class<?> classWithAdditionalProperties = resultsClassLoader.loadClass("com.example.DefaultAdditionalProperties");
+        Method getter = classWithAdditionalProperties.getMethod("getAdditionalProperties");
+        Method setter = classWithAdditionalProperties.getMethod("setAdditionalProperty", String.class, Object.class);
+
+        Object first = classWithAdditionalProperties.newInstance();
+        Object second = mapper.readValue("{}", classWithAdditionalProperties);
+        assertThat(getter.invoke(first), sameInstance(getter.invoke(second)));
+        assertThat(((Map<?, ?>) getter.invoke(first)).isEmpty(), is(true));
+        assertThat(first, is(equalTo(second)));
+        assertThat(first.hashCode(), is(second.hashCode()));
+
+        setter.invoke(first, "a", "1");
+        assertThat(getter.invoke(second), sameInstance(getter.invoke(classWithAdditionalProperties.newInstance())));
+        assertThat(((Map<?, ?>) getter.invoke(first)).size(), is(1));
+
+        setter.invoke(first, "b", 2);
+        setter.invoke(first, "a", "3");
+        assertThat(((Map<?, ?>) getter.invoke(first)).size(), is(2));
+        assertThat(((Map<?, ?>) getter.invoke(first)).get("a"), is((Object) "3"));
+        assertThat(((Map<?, ?>) getter.invoke(first)).get("b"), is((Object) 2));
+    }
+
+    @Test
+    public void jacksonCanRoundTripLazyAdditionalProperties() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/additionalProperties/defaultAdditionalProperties.json", "com.example", config("useLazyAdditionalProperties", true));
+
+        Class<?> classWithAdditionalProperties = resultsClassLoader.loadClass("com.example.DefaultAdditionalProperties");
+
+        for (String json : new String[] { "{}", "{\"a\":\"1\"}", "{\"a\":\"1\",\"b\":2,\"c\":[true]}" }) {
+            Object deserialized = mapper.readValue(json, classWithAdditionalProperties);
+            assertThat(mapper.readTree(mapper.writeValueAsString(deserialized)), is(mapper.readTree(json)));
+            assertThat(deserialized, is(equalTo(mapper.readValue(json, classWithAdditionalProperties))));
+        }
+    }
+
+    @Test
+    public void lazyAdditionalPropertiesCanBeAddedWithBuildersAndDynamicAccessors() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/additionalProperties/additionalPropertiesPrimitiveBoolean.json", "com.example",
+                config("useLazyAdditionalProperties", true, "usePrimitives", true, "generateBuilders", true, "includeDynamicAccessors", true));
+
+        Class<?> classWithAdditionalProperties = resultsClassLoader.loadClass("com.example.AdditionalPropertiesPrimitiveBoolean");
+        Method getter = classWithAdditionalProperties.getMethod("getAdditionalProperties");
+
+        Object instance = classWithAdditionalProperties.newInstance();
+        classWithAdditionalProperties.getMethod("withAdditionalProperty", String.class, boolean.class).invoke(instance, "a", true);
+        classWithAdditionalProperties.getMethod("set", String.class, Object.class).invoke(instance, "b", false);
+        classWithAdditionalProperties.getMethod("with", String.class, Object.class).invoke(instance, "c", true);
+
+        assertThat(((Map<?, ?>) getter.invoke(instance)).size(), is(3));
+        assertThat(classWithAdditionalProperties.getMethod("get", String.class).invoke(instance, "b"), is((Object) false));
+    }
+
     @SuppressWarnings("rawtypes")
     public static Matcher<Class> typeEqualTo(Class<?> type) {
         return equalTo((Class) type);
@@ -20,7 +20,13 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.config;
 import static org.junit.Assert.*;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
@@ -212,6 +218,111 @@ public class DynamicPropertiesIT {
                 equalTo("value"));
     }
 
+    @Test
+    public void shouldSetStringFieldOnParentWithIndex() throws Throwable {
+        setDeclaredPropertyTest(
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true),
+                "/schema/dynamic/childType.json",
+                "ChildType",
+                String.class,
+                "stringValue",
+                "getStringValue",
+                "value");
+    }
+
+    @Test
+    public void shouldSetChildFieldWithIndex() throws Throwable {
+        setDeclaredPropertyTest(
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true),
+                "/schema/dynamic/childType.json",
+                "ChildType",
+                Double.class,
+                "childNumberValue",
+                "getChildNumberValue",
+                1D);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionWhenSettingWrongTypeWithIndex() throws Throwable {
+        setDeclaredPropertyTest(
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true),
+                "/schema/dynamic/childType.json",
+                "ChildType",
+                String.class,
+                "stringValue",
+                "getStringValue",
+                1L);
+    }
+
+    @Test
+    public void shouldGetAndSetPropertiesByIndex() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/dynamic/childType.json", "com.example",
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true));
+
+        Class<?> parentType = resultsClassLoader.loadClass("com.example.ParentType");
+        Class<?> childType = resultsClassLoader.loadClass("com.example.ChildType");
+        Object child = childType.newInstance();
+        Method propertyIndex = childType.getMethod("propertyIndex", String.class);
+
+        assertThat(childType.getMethod("propertyCount").invoke(child), equalTo((Object) 6));
+        assertThat(parentType.getMethod("propertyCount").invoke(parentType.newInstance()), equalTo((Object) 4));
+        for (int i = 0; i < 6; i++) {
+            String name = (String) childType.getMethod("propertyName", int.class).invoke(child, i);
+            assertThat(propertyIndex.invoke(child, name), equalTo((Object) i));
+        }
+        assertThat("inherited properties keep the parent's ordinals",
+                propertyIndex.invoke(child, "stringValue"),
+                equalTo(parentType.getMethod("propertyIndex", String.class).invoke(parentType.newInstance(), "stringValue")));
+        assertThat(propertyIndex.invoke(child, "unknownValue"), equalTo((Object) (-1)));
+        assertThat(propertyIndex.invoke(child, new Object[] { null }), equalTo((Object) (-1)));
+
+        int childStringValue = (Integer) propertyIndex.invoke(child, "childStringValue");
+        childType.getMethod("setByIndex", int.class, Object.class).invoke(child, childStringValue, "value");
+        assertThat(childType.getMethod("getChildStringValue").invoke(child), equalTo((Object) "value"));
+        assertThat(childType.getMethod("getByIndex", int.class).invoke(child, childStringValue), equalTo((Object) "value"));
+        assertThat(childType.getMethod("get", String.class).invoke(child, "childStringValue"), equalTo((Object) "value"));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowExceptionWhenGettingUnknownIndex() throws Throwable {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/dynamic/childType.json", "com.example",
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true));
+
+        Class<?> childType = resultsClassLoader.loadClass("com.example.ChildType");
+        try {
+            childType.getMethod("getByIndex", int.class).invoke(childType.newInstance(), 6);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Test
+    public void shouldVisitEveryPropertyInIndexOrder() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/dynamic/childType.json", "com.example",
+                config("includeDynamicAccessors", true, "useIndexedDynamicAccessors", true));
+
+        Class<?> childType = resultsClassLoader.loadClass("com.example.ChildType");
+        Class<?> visitorType = resultsClassLoader.loadClass("com.example.ParentType$PropertyVisitor");
+        Object child = childType.newInstance();
+        childType.getMethod("setStringValue", String.class).invoke(child, "parent");
+        childType.getMethod("setChildStringValue", String.class).invoke(child, "child");
+
+        final Map<String, Object> visited = new LinkedHashMap<String, Object>();
+        Object visitor = Proxy.newProxyInstance(resultsClassLoader, new Class<?>[] { visitorType }, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                visited.put((String) args[0], args[1]);
+                return null;
+            }
+        });
+        childType.getMethod("forEachProperty", visitorType).invoke(child, visitor);
+
+        assertThat(new ArrayList<String>(visited.keySet()), equalTo(Arrays.asList(
+                "stringValue", "numberValue", "integerValue", "enumType", "childStringValue", "childNumberValue")));
+        assertThat(visited.get("stringValue"), equalTo((Object) "parent"));
+        assertThat(visited.get("childStringValue"), equalTo((Object) "child"));
+    }
+
     public void setDeclaredPropertyTest(String schemaLocation, String typeName, Class<?> fieldType, String fieldName, String fieldGetter, Object value) throws Throwable {
         setDeclaredPropertyTest(config("includeDynamicAccessors", true), schemaLocation, typeName, fieldType, fieldName, fieldGetter, value);
     }
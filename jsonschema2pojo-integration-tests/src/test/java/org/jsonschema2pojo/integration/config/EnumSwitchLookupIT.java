@@ -0,0 +1,133 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.apache.commons.io.FileUtils;
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class EnumSwitchLookupIT {
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+    @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void constantsAreFoundByValue() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/enum/typeWithEnumProperty.json", "com.example",
+                config("propertyWordDelimiters", "_", "useEnumSwitchLookup", true));
+        Class<Enum> enumClass = (Class<Enum>) resultsClassLoader.loadClass("com.example.TypeWithEnumProperty$EnumPropertyEnum");
+
+        assertFoundByValue(enumClass);
+        assertThat(tryFromValue(enumClass, "unknown"), is(nullValue()));
+        assertThat(tryFromValue(enumClass, null), is(nullValue()));
+    }
+
+    @Test
+    public void valuesWithTheSameHashCodeAreFoundByValue() throws Exception {
+        Class<Enum> enumClass = (Class<Enum>) schemaRule.generateAndCompile("/schema/enum/enumWithHashCollisions.json", "com.example",
+                config("useEnumSwitchLookup", true)).loadClass("com.example.EnumWithHashCollisionsEnum");
+
+        assertThat("Aa".hashCode(), is("BB".hashCode()));
+        assertFoundByValue(enumClass);
+        assertThat(tryFromValue(enumClass, "BBBB"), is(nullValue()));
+    }
+
+    @Test
+    public void fromValueThrowsForUnknownValues() throws Exception {
+        Class<Enum> enumClass = (Class<Enum>) schemaRule.generateAndCompile("/schema/enum/enumWithHashCollisions.json", "com.example",
+                config("useEnumSwitchLookup", true)).loadClass("com.example.EnumWithHashCollisionsEnum");
+
+        try {
+            enumClass.getMethod("fromValue", String.class).invoke(null, "BBBB");
+            fail("Expected IllegalArgumentException for an unknown value");
+        } catch (InvocationTargetException e) {
+            assertThat(e.getCause(), is(instanceOf(IllegalArgumentException.class)));
+            assertThat(e.getCause().getMessage(), is("BBBB"));
+        }
+    }
+
+    @Test
+    public void jacksonUsesFromValue() throws Exception {
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/schema/enum/typeWithEnumProperty.json", "com.example",
+                config("propertyWordDelimiters", "_", "useEnumSwitchLookup", true));
+        Class<?> parentClass = resultsClassLoader.loadClass("com.example.TypeWithEnumProperty");
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Object instance = objectMapper.readValue("{\"enum_Property\":\"3rd one\"}", parentClass);
+
+        assertThat(objectMapper.writeValueAsString(instance), is("{\"enum_Property\":\"3rd one\"}"));
+    }
+
+    @Test
+    public void noLookupMapIsCreatedWhenTheEnumIsLoaded() throws IOException {
+        File outputDirectory = schemaRule.generate("/schema/enum/enumWithHashCollisions.json", "com.example",
+                config("useEnumSwitchLookup", true));
+
+        String source = FileUtils.readFileToString(new File(outputDirectory, "com/example/EnumWithHashCollisionsEnum.java"));
+        assertThat(source, containsString("switch (value.hashCode())"));
+        assertThat(source, not(containsString("CONSTANTS")));
+    }
+
+    @Test
+    public void largeEnumsUseALazilyCreatedMap() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode schema = objectMapper.createObjectNode();
+        schema.put("type", "string");
+        ArrayNode values = schema.putArray("enum");
+        for (int i = 0; i < 2000; i++) {
+            values.add("value" + i);
+        }
+        File schemaFile = tempFolder.newFile("largeEnum.json");
+        objectMapper.writeValue(schemaFile, schema);
+
+        Class<Enum> enumClass = (Class<Enum>) schemaRule.generateAndCompile(schemaFile.toURI().toURL(), "com.example",
+                config("useEnumSwitchLookup", true)).loadClass("com.example.LargeEnumEnum");
+
+        assertFoundByValue(enumClass);
+        assertThat(tryFromValue(enumClass, "value2000"), is(nullValue()));
+        assertThat(enumClass.getDeclaredClasses().length, is(1));
+    }
+
+    private static void assertFoundByValue(Class<Enum> enumClass) throws Exception {
+        Method fromValue = enumClass.getMethod("fromValue", String.class);
+        for (Enum constant : enumClass.getEnumConstants()) {
+            assertThat(fromValue.invoke(null, constant.toString()), is((Object) constant));
+            assertThat(tryFromValue(enumClass, constant.toString()), is((Object) constant));
+        }
+    }
+
+    private static Object tryFromValue(Class<Enum> enumClass, String value) throws Exception {
+        return enumClass.getMethod("tryFromValue", String.class).invoke(null, value);
+    }
+
+}
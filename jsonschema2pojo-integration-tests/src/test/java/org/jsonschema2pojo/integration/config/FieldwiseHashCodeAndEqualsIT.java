@@ -0,0 +1,170 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+@RunWith(Parameterized.class)
+public class FieldwiseHashCodeAndEqualsIT {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String EXAMPLE = "{\"parentValue\":\"parent\",\"anArray\":[\"a\",\"b\"],\"anInteger\":1,\"aLong\":12345678901,"
+            + "\"aNumber\":1.5,\"aBoolean\":true,\"aString\":\"string\",\"anObject\":{\"value\":\"v\"},\"anEnum\":\"two\","
+            + "\"someBytes\":\"AQID\"}";
+
+    @Parameters
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][] {
+                { config() },
+                { config("usePrimitives", true) },
+                { config("usePrimitives", true, "useDoubleNumbers", false) } });
+    }
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+
+    private final Map<String, Object> config;
+
+    public FieldwiseHashCodeAndEqualsIT(Map<String, Object> config) {
+        this.config = config;
+    }
+
+    @Test
+    public void hashCodeMatchesBuilderHashCode() throws Exception {
+        Class<?> builderType = generateAndCompile("/schema/properties/primitiveProperties.json", "com.example", config)
+                .loadClass("com.example.PrimitiveProperties");
+        Class<?> fieldwiseType = schemaRule.generateAndCompile("/schema/properties/primitiveProperties.json", "com.example", withFieldwise(config))
+                .loadClass("com.example.PrimitiveProperties");
+
+        for (String json : new String[] { "{}", "{\"a\":1,\"b\":1.5,\"c\":true}", "{\"a\":-7,\"b\":-0.25,\"c\":false,\"d\":\"extra\"}" }) {
+            assertThat(json, read(fieldwiseType, json).hashCode(), is(read(builderType, json).hashCode()));
+        }
+    }
+
+    @Test
+    public void hashCodeMatchesBuilderHashCodeForArraysAndInheritedFields() throws Exception {
+        Class<?> builderType = generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", config)
+                .loadClass("com.example.Fieldwise");
+        Class<?> fieldwiseType = schemaRule.generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", withFieldwise(config))
+                .loadClass("com.example.Fieldwise");
+
+        // enum constants hash by identity, which differs between class loaders
+        ObjectNode example = (ObjectNode) OBJECT_MAPPER.readTree(EXAMPLE);
+        example.remove("anEnum");
+
+        assertThat(read(fieldwiseType, example.toString()).hashCode(), is(read(builderType, example.toString()).hashCode()));
+        assertThat(read(fieldwiseType, "{}").hashCode(), is(read(builderType, "{}").hashCode()));
+    }
+
+    @Test
+    public void arraysAreComparedByContent() throws Exception {
+        Class<?> fieldwiseType = schemaRule.generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", withFieldwise(config))
+                .loadClass("com.example.Fieldwise");
+
+        Object first = read(fieldwiseType, EXAMPLE);
+        Object second = read(fieldwiseType, EXAMPLE);
+
+        assertThat(fieldwiseType.getMethod("getSomeBytes").invoke(first), is(not(sameInstance(fieldwiseType.getMethod("getSomeBytes").invoke(second)))));
+        assertThat(first, is(equalTo(second)));
+        assertThat(first.hashCode(), is(second.hashCode()));
+    }
+
+    @Test
+    public void equalInstancesHaveEqualHashCodes() throws Exception {
+        Class<?> fieldwiseType = schemaRule.generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", withFieldwise(config))
+                .loadClass("com.example.Fieldwise");
+
+        for (String variant : variants()) {
+            assertThat(variant, read(fieldwiseType, variant), is(equalTo(read(fieldwiseType, variant))));
+            assertThat(variant, read(fieldwiseType, variant).hashCode(), is(read(fieldwiseType, variant).hashCode()));
+        }
+    }
+
+    @Test
+    public void everyFieldIncludingInheritedFieldsIsCompared() throws Exception {
+        Class<?> fieldwiseType = schemaRule.generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", withFieldwise(config))
+                .loadClass("com.example.Fieldwise");
+
+        Object example = read(fieldwiseType, EXAMPLE);
+        for (String variant : variants()) {
+            if (!variant.equals(EXAMPLE)) {
+                assertThat(variant, read(fieldwiseType, variant), is(not(equalTo(example))));
+                assertThat(variant, example, is(not(equalTo(read(fieldwiseType, variant)))));
+            }
+        }
+        assertThat(example.equals(null), is(false));
+        assertThat(example.equals("string"), is(false));
+    }
+
+    private static Map<String, Object> withFieldwise(Map<String, Object> config) {
+        Map<String, Object> fieldwiseConfig = config();
+        fieldwiseConfig.putAll(config);
+        fieldwiseConfig.put("useFieldwiseHashcodeAndEquals", true);
+        return fieldwiseConfig;
+    }
+
+    private static Object read(Class<?> type, String json) throws Exception {
+        return OBJECT_MAPPER.readValue(json, type);
+    }
+
+    /**
+     * @return the example, and the example with each property changed in
+     *         turn (either to another value or to null)
+     */
+    private static String[] variants() throws Exception {
+        ObjectNode example = (ObjectNode) OBJECT_MAPPER.readTree(EXAMPLE);
+        String[][] changes = {
+                { "parentValue", "\"other\"" },
+                { "anArray", "[\"a\"]" },
+                { "anArray", "null" },
+                { "anInteger", "2" },
+                { "aLong", "12345678902" },
+                { "aNumber", "2.5" },
+                { "aBoolean", "false" },
+                { "aString", "null" },
+                { "anObject", "{\"value\":\"w\"}" },
+                { "anEnum", "\"one\"" },
+                { "someBytes", "\"AQIE\"" },
+                { "someBytes", "null" } };
+
+        String[] variants = new String[changes.length + 1];
+        variants[0] = EXAMPLE;
+        for (int i = 0; i < changes.length; i++) {
+            ObjectNode variant = example.deepCopy();
+            variant.set(changes[i][0], OBJECT_MAPPER.readTree(changes[i][1]));
+            variants[i + 1] = variant.toString();
+        }
+        return variants;
+    }
+
+}
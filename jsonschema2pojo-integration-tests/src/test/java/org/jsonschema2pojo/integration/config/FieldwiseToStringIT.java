@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@RunWith(Parameterized.class)
+public class FieldwiseToStringIT {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Parameters
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[][] {
+                { config("useFieldwiseToString", true) },
+                { config("useFieldwiseToString", true, "usePrimitives", true, "useCommonsLang3", true) } });
+    }
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+
+    private final Map<String, Object> config;
+
+    public FieldwiseToStringIT(Map<String, Object> config) {
+        this.config = config;
+    }
+
+    @Test
+    public void toStringMatchesReflectionToString() throws Exception {
+        Class<?> type = schemaRule.generateAndCompile("/schema/hashCodeAndEquals/fieldwise.json", "com.example", config)
+                .loadClass("com.example.Fieldwise");
+
+        String[] examples = {
+                "{}",
+                "{\"parentValue\":\"parent\",\"anArray\":[\"a\",\"b\"],\"anInteger\":1,\"aLong\":12345678901,\"aNumber\":1.5,"
+                        + "\"aBoolean\":true,\"aString\":\"string\",\"anObject\":{\"value\":\"v\"},\"anEnum\":\"two\"}",
+                "{\"anObject\":{},\"extra\":[1,2],\"other\":null}" };
+
+        for (String example : examples) {
+            Object instance = OBJECT_MAPPER.readValue(example, type);
+            assertThat(example, instance.toString(), is(ToStringBuilder.reflectionToString(instance)));
+        }
+    }
+
+    @Test
+    public void toStringDoesNotUseReflection() throws IOException {
+        File outputDirectory = schemaRule.generate("/schema/hashCodeAndEquals/fieldwise.json", "com.example", config);
+
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "com/example/Fieldwise.java")), not(containsString("reflectionToString")));
+        assertThat(FileUtils.readFileToString(new File(outputDirectory, "com/example/FieldwiseParent.java")), not(containsString("reflectionToString")));
+    }
+
+}
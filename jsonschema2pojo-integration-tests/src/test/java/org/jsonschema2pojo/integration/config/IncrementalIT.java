@@ -0,0 +1,235 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import org.jsonschema2pojo.GenerationManifest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class IncrementalIT {
+
+    private static final long OLD_TIMESTAMP = 1000000000000L;
+
+    @Rule public TemporaryFolder schemaFolder = new TemporaryFolder();
+
+    private File sourceDirectory;
+    private File outputDirectory;
+    private Map<String, Object> config;
+
+    @Before
+    public void writeSchemas() throws IOException {
+        sourceDirectory = schemaFolder.newFolder("schema");
+        outputDirectory = createTemporaryOutputFolder();
+        config = config("incremental", true);
+
+        write(new File(sourceDirectory, "parent.json"), "{\"type\" : \"object\", \"properties\" : {\"child\" : {\"$ref\" : \"../shared/child.json\"}}}", "UTF-8");
+        File sharedDirectory = schemaFolder.newFolder("shared");
+        write(new File(sharedDirectory, "child.json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"type\" : \"string\"}}}", "UTF-8");
+    }
+
+    @Test
+    public void manifestIsWrittenToTargetDirectory() throws IOException {
+
+        regenerate(config);
+
+        assertThat(new File(outputDirectory, GenerationManifest.FILE_NAME).isFile(), is(true));
+        assertThat(new File(outputDirectory, "com/example/Parent.java").isFile(), is(true));
+
+    }
+
+    @Test
+    public void unchangedInputsSkipGeneration() throws IOException {
+
+        regenerate(config);
+        File parentSource = new File(outputDirectory, "com/example/Parent.java");
+        assertThat(parentSource.setLastModified(OLD_TIMESTAMP), is(true));
+
+        regenerate(config);
+
+        assertThat(parentSource.lastModified(), is(OLD_TIMESTAMP));
+
+    }
+
+    @Test
+    public void deletedOutputCausesGeneration() throws IOException {
+
+        regenerate(config);
+        File childSource = new File(outputDirectory, "com/example/Child.java");
+        assertThat(childSource.delete(), is(true));
+
+        regenerate(config);
+
+        assertThat(childSource.isFile(), is(true));
+
+    }
+
+    @Test
+    public void changedReferencedDocumentCausesGeneration() throws IOException {
+
+        regenerate(config);
+        File childSource = new File(outputDirectory, "com/example/Child.java");
+        assertThat(readFileToString(childSource), not(containsString("getAge")));
+
+        write(new File(schemaFolder.getRoot(), "shared/child.json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"type\" : \"string\"}, \"age\" : {\"type\" : \"integer\"}}}", "UTF-8");
+        regenerate(config);
+
+        assertThat(readFileToString(childSource), containsString("getAge"));
+
+    }
+
+    @Test
+    public void newSourceFileCausesGeneration() throws IOException {
+
+        regenerate(config);
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+
+        assertThat(new File(outputDirectory, "com/example/Sibling.java").isFile(), is(true));
+
+    }
+
+    @Test
+    public void changedConfigurationCausesGeneration() throws IOException {
+
+        regenerate(config);
+        File parentSource = new File(outputDirectory, "com/example/Parent.java");
+        assertThat(readFileToString(parentSource), not(containsString("withChild")));
+
+        regenerate(config("incremental", true, "generateBuilders", true));
+
+        assertThat(readFileToString(parentSource), containsString("withChild"));
+
+    }
+
+    @Test
+    public void changedSourceRegeneratesOnlyThatSource() throws IOException {
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+        File parentSource = new File(outputDirectory, "com/example/Parent.java");
+        File childSource = new File(outputDirectory, "com/example/Child.java");
+        File siblingSource = new File(outputDirectory, "com/example/Sibling.java");
+        assertThat(parentSource.setLastModified(OLD_TIMESTAMP), is(true));
+        assertThat(childSource.setLastModified(OLD_TIMESTAMP), is(true));
+        assertThat(siblingSource.setLastModified(OLD_TIMESTAMP), is(true));
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\", \"properties\" : {\"age\" : {\"type\" : \"integer\"}}}", "UTF-8");
+        regenerate(config);
+
+        assertThat(readFileToString(siblingSource), containsString("getAge"));
+        assertThat(parentSource.lastModified(), is(OLD_TIMESTAMP));
+        assertThat(childSource.lastModified(), is(OLD_TIMESTAMP));
+
+    }
+
+    @Test
+    public void changedReferencedDocumentRegeneratesOnlyDependentSources() throws IOException {
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+        File siblingSource = new File(outputDirectory, "com/example/Sibling.java");
+        assertThat(siblingSource.setLastModified(OLD_TIMESTAMP), is(true));
+
+        write(new File(schemaFolder.getRoot(), "shared/child.json"), "{\"type\" : \"object\", \"properties\" : {\"age\" : {\"type\" : \"integer\"}}}", "UTF-8");
+        regenerate(config);
+
+        assertThat(readFileToString(new File(outputDirectory, "com/example/Child.java")), containsString("getAge"));
+        assertThat(siblingSource.lastModified(), is(OLD_TIMESTAMP));
+
+    }
+
+    @Test
+    public void typesNoLongerGeneratedAreRemoved() throws IOException {
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\", \"properties\" : {\"pet\" : {\"type\" : \"object\"}}}", "UTF-8");
+        regenerate(config);
+        assertThat(new File(outputDirectory, "com/example/Pet.java").isFile(), is(true));
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+
+        assertThat(new File(outputDirectory, "com/example/Pet.java").exists(), is(false));
+        assertThat(new File(outputDirectory, "com/example/Sibling.java").isFile(), is(true));
+        assertThat(new File(outputDirectory, "com/example/Parent.java").isFile(), is(true));
+
+    }
+
+    @Test
+    public void removedSourceHasItsTypesRemoved() throws IOException {
+
+        write(new File(sourceDirectory, "sibling.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+
+        assertThat(new File(sourceDirectory, "sibling.json").delete(), is(true));
+        regenerate(config);
+
+        assertThat(new File(outputDirectory, "com/example/Sibling.java").exists(), is(false));
+        assertThat(new File(outputDirectory, "com/example/Parent.java").isFile(), is(true));
+
+    }
+
+    @Test
+    public void uniqueNamesMatchAFullRunWhenOnlySomeSourcesAreRegenerated() throws IOException {
+
+        write(new File(sourceDirectory, "a.json"), "{\"type\" : \"object\", \"properties\" : {\"item\" : {\"type\" : \"object\"}}}", "UTF-8");
+        write(new File(sourceDirectory, "b.json"), "{\"type\" : \"object\", \"properties\" : {\"item\" : {\"type\" : \"object\", \"properties\" : {\"size\" : {\"type\" : \"integer\"}}}}}", "UTF-8");
+        regenerate(config);
+        assertThat(readFileToString(new File(outputDirectory, "com/example/Item_.java")), containsString("getSize"));
+
+        write(new File(sourceDirectory, "a.json"), "{\"type\" : \"object\"}", "UTF-8");
+        regenerate(config);
+
+        assertThat(readFileToString(new File(outputDirectory, "com/example/Item.java")), containsString("getSize"));
+        assertThat(new File(outputDirectory, "com/example/Item_.java").exists(), is(false));
+        assertThat(readFileToString(new File(outputDirectory, "com/example/B.java")), containsString("Item item"));
+
+    }
+
+    @Test
+    public void changedLaterValueOfJsonExampleCausesGeneration() throws IOException {
+
+        File exampleDirectory = schemaFolder.newFolder("examples");
+        Map<String, Object> jsonConfig = config("incremental", true, "sourceType", "json");
+        write(new File(exampleDirectory, "event.json"), "{\"name\" : \"first\"}\n{\"name\" : \"second\"}\n", "UTF-8");
+        generate(exampleDirectory.toURI().toURL(), "com.example", jsonConfig, outputDirectory);
+        File eventSource = new File(outputDirectory, "com/example/Event.java");
+        assertThat(readFileToString(eventSource), not(containsString("getAge")));
+
+        write(new File(exampleDirectory, "event.json"), "{\"name\" : \"first\"}\n{\"name\" : \"second\", \"age\" : 3}\n", "UTF-8");
+        generate(exampleDirectory.toURI().toURL(), "com.example", jsonConfig, outputDirectory);
+
+        assertThat(readFileToString(eventSource), containsString("getAge"));
+
+    }
+
+    private void regenerate(Map<String, Object> configValues) throws IOException {
+        generate(sourceDirectory.toURI().toURL(), "com.example", configValues, outputDirectory);
+    }
+
+}
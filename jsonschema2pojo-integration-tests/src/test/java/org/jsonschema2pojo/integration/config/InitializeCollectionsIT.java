@@ -42,12 +42,17 @@ public class InitializeCollectionsIT {
     public static Collection<Object[]> parameters() {
         Map<String, Object> withOptionFalse = config("initializeCollections", false);
         Map<String, Object> withOptionAbsent = config();
+        Map<String, Object> withLazyDefaults = config("useLazyCollectionDefaults", true);
+        Map<String, Object> withLazyDefaultsAndOptionFalse = config("useLazyCollectionDefaults", true, "initializeCollections", false);
         return Arrays.asList(new Object[][] {
             {"defaultValueForCollectionsIsEmptyCollection", withOptionAbsent, "getList", notNullValue()},
             {"defaultValueForListIsNullWithProperty", withOptionFalse, "getList", nullValue()},
             {"defaultValueForSetIsNullWithProperty", withOptionFalse, "getSet", nullValue()},
             {"defaultValueForListWithValuesIsNotNullWithProperty", withOptionFalse, "getListWithValues", notNullValue()},
-            {"defaultValueForSetWithValuesIsNotNullWithProperty", withOptionFalse, "getSetWithValues", notNullValue()}
+            {"defaultValueForSetWithValuesIsNotNullWithProperty", withOptionFalse, "getSetWithValues", notNullValue()},
+            {"lazyDefaultValueForCollectionsIsEmptyCollection", withLazyDefaults, "getSet", notNullValue()},
+            {"lazyDefaultValueForListIsNullWithProperty", withLazyDefaultsAndOptionFalse, "getList", nullValue()},
+            {"lazyDefaultValueForListWithValuesIsNotNullWithProperty", withLazyDefaultsAndOptionFalse, "getListWithValues", notNullValue()}
         });
     }
 
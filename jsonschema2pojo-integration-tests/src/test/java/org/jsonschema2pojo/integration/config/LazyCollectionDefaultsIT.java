@@ -0,0 +1,143 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SuppressWarnings("unchecked")
+public class LazyCollectionDefaultsIT {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+
+    private Class<?> generatedType;
+
+    @Before
+    public void generateAndCompileLazyType() throws ClassNotFoundException {
+        generatedType = schemaRule.generateAndCompile("/schema/properties/initializeCollectionProperties.json", "com.example",
+                config("useLazyCollectionDefaults", true)).loadClass("com.example.InitializeCollectionProperties");
+    }
+
+    @Test
+    public void gettersReturnModifiableCollectionsHoldingTheDefaults() throws Exception {
+        Object instance = generatedType.newInstance();
+
+        List<Object> list = (List<Object>) generatedType.getMethod("getList").invoke(instance);
+        Set<Object> set = (Set<Object>) generatedType.getMethod("getSet").invoke(instance);
+        List<Object> listWithValues = (List<Object>) generatedType.getMethod("getListWithValues").invoke(instance);
+        Set<Object> setWithValues = (Set<Object>) generatedType.getMethod("getSetWithValues").invoke(instance);
+
+        assertThat(list.isEmpty(), is(true));
+        assertThat(set.isEmpty(), is(true));
+        assertThat(listWithValues, hasSize(3));
+        assertThat(setWithValues, is(not(empty())));
+
+        assertThat(list.add(1), is(true));
+        assertThat(set.add(1), is(true));
+        assertThat(listWithValues.add(400), is(true));
+        assertThat(setWithValues.add(400), is(true));
+
+        assertThat(generatedType.getMethod("getList").invoke(instance), is(sameInstance((Object) list)));
+        assertThat((List<Object>) generatedType.getMethod("getListWithValues").invoke(instance), hasSize(4));
+        assertThat((List<Object>) generatedType.getMethod("getListWithValues").invoke(generatedType.newInstance()), hasSize(3));
+    }
+
+    @Test
+    public void changesAreNotSharedBetweenInstances() throws Exception {
+        Object first = generatedType.newInstance();
+        Object second = generatedType.newInstance();
+
+        ((List<Object>) generatedType.getMethod("getListWithValues").invoke(first)).clear();
+        ((Set<Object>) generatedType.getMethod("getSet").invoke(first)).add(1);
+
+        assertThat((List<Object>) generatedType.getMethod("getListWithValues").invoke(second), hasSize(3));
+        assertThat((Set<Object>) generatedType.getMethod("getSet").invoke(second), is(empty()));
+        assertThat((List<Object>) generatedType.getMethod("getListWithValues").invoke(generatedType.newInstance()), hasSize(3));
+    }
+
+    @Test
+    public void newInstancesShareTheirDefaults() throws Exception {
+        Object first = generatedType.newInstance();
+        Object second = generatedType.newInstance();
+
+        for (String fieldName : new String[] { "list", "set", "listWithValues", "setWithValues" }) {
+            Field field = generatedType.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            assertThat(fieldName, field.get(first), is(sameInstance(field.get(second))));
+        }
+    }
+
+    @Test
+    public void sharedDefaultsCannotBeModified() throws Exception {
+        Object instance = generatedType.newInstance();
+
+        for (String fieldName : new String[] { "list", "set", "listWithValues", "setWithValues" }) {
+            Field field = generatedType.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            try {
+                ((Collection<Object>) field.get(instance)).add(400);
+                fail("The shared default of " + fieldName + " was modified");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+        }
+    }
+
+    @Test
+    public void untouchedDefaultsEqualMaterializedDefaults() throws Exception {
+        Object untouched = generatedType.newInstance();
+        Object materialized = generatedType.newInstance();
+        for (String getter : new String[] { "getList", "getSet", "getListWithValues", "getSetWithValues" }) {
+            generatedType.getMethod(getter).invoke(materialized);
+        }
+
+        assertThat(untouched, is(equalTo(materialized)));
+        assertThat(untouched.hashCode(), is(materialized.hashCode()));
+    }
+
+    @Test
+    public void jacksonResultsAreUnchanged() throws Exception {
+        Class<?> eagerType = generateAndCompile("/schema/properties/initializeCollectionProperties.json", "com.example", config())
+                .loadClass("com.example.InitializeCollectionProperties");
+
+        for (String json : new String[] { "{}", "{\"list\":[1,2]}", "{\"listWithValues\":[],\"setWithValues\":[1,1]}", "{\"set\":null}" }) {
+            Object lazy = OBJECT_MAPPER.readValue(json, generatedType);
+            Object eager = OBJECT_MAPPER.readValue(json, eagerType);
+
+            assertThat(json, OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(lazy)), is(OBJECT_MAPPER.readTree(OBJECT_MAPPER.writeValueAsString(eager))));
+            for (String getter : new String[] { "getList", "getSet", "getListWithValues", "getSetWithValues" }) {
+                assertThat(json, (Collection<Object>) generatedType.getMethod(getter).invoke(lazy), is(equalTo(eagerType.getMethod(getter).invoke(eager))));
+            }
+        }
+    }
+
+}
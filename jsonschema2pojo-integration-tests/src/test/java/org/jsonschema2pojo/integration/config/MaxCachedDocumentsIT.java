@@ -0,0 +1,75 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MaxCachedDocumentsIT {
+
+    @Rule public TemporaryFolder schemaFolder = new TemporaryFolder();
+
+    @Test
+    public void boundedSchemaStoreProducesIdenticalOutput() throws IOException {
+
+        File schemas = schemaFolder.newFolder("schema");
+        write(new File(schemas, "shared.json"), "{\"definitions\" : {\"name\" : {\"type\" : \"object\", \"properties\" : {\"value\" : {\"type\" : \"string\"}}}}}", "UTF-8");
+        for (int i = 0; i < 10; i++) {
+            String next = i < 9 ? ", \"next\" : {\"$ref\" : \"type" + (i + 1) + ".json\"}" : "";
+            write(new File(schemas, "type" + i + ".json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"$ref\" : \"shared.json#/definitions/name\"}" + next + "}}", "UTF-8");
+        }
+
+        File unboundedOutput = generate(schemas.toURI().toURL(), "com.example", config());
+        File boundedOutput = generate(schemas.toURI().toURL(), "com.example", config("maxCachedDocuments", 1));
+
+        List<String> unboundedFiles = relativePaths(unboundedOutput);
+        List<String> boundedFiles = relativePaths(boundedOutput);
+
+        assertThat(unboundedFiles, is(not(empty())));
+        assertThat(boundedFiles, is(equalTo(unboundedFiles)));
+
+        for (String path : unboundedFiles) {
+            assertThat(path, contentEquals(new File(unboundedOutput, path), new File(boundedOutput, path)), is(true));
+        }
+
+    }
+
+    private static List<String> relativePaths(File directory) {
+        Collection<File> files = listFiles(directory, new String[] { "java" }, true);
+
+        List<String> paths = new ArrayList<String>();
+        for (File file : files) {
+            paths.add(directory.toURI().relativize(file.toURI()).getPath());
+        }
+        Collections.sort(paths);
+        return paths;
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ParallelismIT {
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+
+    @Test
+    public void parallelGenerationProducesIdenticalOutput() throws IOException {
+
+        URL schemas = new File("./src/test/resources/schema/properties").toURI().toURL();
+
+        File sequentialOutput = generate(schemas, "com.example", config("parallelism", 1));
+        File parallelOutput = generate(schemas, "com.example", config("parallelism", 4));
+
+        List<String> sequentialFiles = relativePaths(sequentialOutput);
+        List<String> parallelFiles = relativePaths(parallelOutput);
+
+        assertThat(sequentialFiles, is(not(empty())));
+        assertThat(parallelFiles, is(equalTo(sequentialFiles)));
+
+        for (String path : sequentialFiles) {
+            assertThat(path, contentEquals(new File(sequentialOutput, path), new File(parallelOutput, path)), is(true));
+        }
+
+    }
+
+    @Test
+    public void parallelGenerationCompiles() throws ClassNotFoundException, MalformedURLException {
+
+        URL schemas = new File("./src/test/resources/schema/properties").toURI().toURL();
+
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile(schemas, "com.example", config("parallelism", 4));
+
+        resultsClassLoader.loadClass("com.example.PrimitiveProperties");
+        resultsClassLoader.loadClass("com.example.OrderedProperties");
+
+    }
+
+    private static List<String> relativePaths(File directory) {
+        Collection<File> files = listFiles(directory, new String[] { "java" }, true);
+
+        List<String> paths = new ArrayList<String>();
+        for (File file : files) {
+            paths.add(directory.toURI().relativize(file.toURI()).getPath());
+        }
+        Collections.sort(paths);
+        return paths;
+    }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PrefetchReferencesIT {
+
+    @Rule public TemporaryFolder schemaFolder = new TemporaryFolder();
+
+    @Test
+    public void prefetchingReferencesProducesIdenticalOutput() throws IOException {
+
+        File schemas = schemaFolder.newFolder("schema");
+        File referenced = schemaFolder.newFolder("referenced");
+        write(new File(referenced, "shared.json"), "{\"definitions\" : {\"name\" : {\"type\" : \"object\", \"properties\" : {\"value\" : {\"type\" : \"string\"}}}}}", "UTF-8");
+        for (int i = 0; i < 10; i++) {
+            String next = i < 9 ? ", \"next\" : {\"$ref\" : \"type" + (i + 1) + ".json\"}" : ", \"first\" : {\"$ref\" : \"../schema/root.json\"}";
+            write(new File(referenced, "type" + i + ".json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"$ref\" : \"shared.json#/definitions/name\"}" + next + "}}", "UTF-8");
+        }
+        write(new File(schemas, "root.json"), "{\"type\" : \"object\", \"extends\" : {\"$ref\" : \"../referenced/type0.json\"}}", "UTF-8");
+
+        File sequentialOutput = generate(schemas.toURI().toURL(), "com.example", config());
+        File prefetchedOutput = generate(schemas.toURI().toURL(), "com.example", config("prefetchReferences", true, "parallelism", 4));
+
+        List<String> sequentialFiles = relativePaths(sequentialOutput);
+        List<String> prefetchedFiles = relativePaths(prefetchedOutput);
+
+        assertThat(sequentialFiles, hasItem("com/example/Next________.java"));
+        assertThat(prefetchedFiles, is(equalTo(sequentialFiles)));
+
+        for (String path : sequentialFiles) {
+            assertThat(path, contentEquals(new File(sequentialOutput, path), new File(prefetchedOutput, path)), is(true));
+        }
+
+    }
+
+    @Test
+    public void unreadableReferenceIsStillReportedDuringGeneration() throws IOException {
+
+        File schemas = schemaFolder.newFolder("schema");
+        write(new File(schemas, "root.json"), "{\"type\" : \"object\", \"properties\" : {\"missing\" : {\"$ref\" : \"missing.json\"}}}", "UTF-8");
+
+        try {
+            generate(schemas.toURI().toURL(), "com.example", config("prefetchReferences", true));
+            fail("Expected generation to fail for a missing reference");
+        } catch (RuntimeException e) {
+            assertThat(getStackTraceAsString(e), containsString("missing.json"));
+        }
+
+    }
+
+    private static String getStackTraceAsString(Throwable t) {
+        StringBuilder message = new StringBuilder();
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            message.append(cause.getMessage()).append('\n');
+        }
+        return message.toString();
+    }
+
+    private static List<String> relativePaths(File directory) {
+        Collection<File> files = listFiles(directory, new String[] { "java" }, true);
+
+        List<String> paths = new ArrayList<String>();
+        for (File file : files) {
+            paths.add(directory.toURI().relativize(file.toURI()).getPath());
+        }
+        Collections.sort(paths);
+        return paths;
+    }
+
+}
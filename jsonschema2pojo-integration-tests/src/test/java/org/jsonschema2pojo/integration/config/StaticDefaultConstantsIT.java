@@ -0,0 +1,177 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.joda.time.LocalDate;
+import org.joda.time.LocalTime;
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class StaticDefaultConstantsIT {
+
+    private static final String[] SHARED_DEFAULTS = { "DecimalWithDefault", "IntegerWithDefault", "UriWithDefault",
+            "RegexWithDefault", "DateWithDefault", "TimeWithDefault", "EnumWithDefault" };
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+
+    private static Map<String, Object> configWithJodaLocalTypes(boolean useStaticDefaultConstants) {
+        return config("useStaticDefaultConstants", useStaticDefaultConstants,
+                "useBigDecimals", true,
+                "usePrimitives", false,
+                "useJodaLocalDates", true,
+                "useJodaLocalTimes", true);
+    }
+
+    @Test
+    public void immutableDefaultsAreSharedBetweenInstances() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(true)).loadClass("com.example.ShareableDefaults");
+
+        Object first = generatedType.newInstance();
+        Object second = generatedType.newInstance();
+
+        for (String property : SHARED_DEFAULTS) {
+            Object value = generatedType.getMethod("get" + property).invoke(first);
+            assertThat(property, value, is(notNullValue()));
+            assertThat(property, generatedType.getMethod("get" + property).invoke(second), is(sameInstance(value)));
+        }
+
+        assertThat(generatedType.getMethod("getDecimalWithDefault").invoke(first), is((Object) new BigDecimal("1.337")));
+        assertThat(generatedType.getMethod("getIntegerWithDefault").invoke(first), is((Object) 1337));
+        assertThat(generatedType.getMethod("getUriWithDefault").invoke(first), is((Object) URI.create("http://example.com/a/b")));
+        assertThat(((Pattern) generatedType.getMethod("getRegexWithDefault").invoke(first)).pattern(), is("^[a-z]+$"));
+        assertThat(generatedType.getMethod("getDateWithDefault").invoke(first), is((Object) new LocalDate("2015-03-04")));
+        assertThat(generatedType.getMethod("getTimeWithDefault").invoke(first), is((Object) new LocalTime("16:15:00")));
+        assertThat(((Enum<?>) generatedType.getMethod("getEnumWithDefault").invoke(first)).name(), is("TWO"));
+    }
+
+    @Test
+    public void defaultsAreHeldInPrivateStaticFinalConstants() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(true)).loadClass("com.example.ShareableDefaults");
+
+        int modifiers = generatedType.getDeclaredField("DECIMAL_WITH_DEFAULT_DEFAULT").getModifiers();
+
+        assertThat(Modifier.isPrivate(modifiers), is(true));
+        assertThat(Modifier.isStatic(modifiers), is(true));
+        assertThat(Modifier.isFinal(modifiers), is(true));
+    }
+
+    @Test
+    public void uriAndPatternDefaultsAreOnlyCreatedWhenEnabled() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(false)).loadClass("com.example.ShareableDefaults");
+
+        Object instance = generatedType.newInstance();
+
+        assertThat(generatedType.getMethod("getUriWithDefault").invoke(instance), is(nullValue()));
+        assertThat(generatedType.getMethod("getRegexWithDefault").invoke(instance), is(nullValue()));
+    }
+
+    @Test
+    public void invalidUriAndPatternDefaultsAreNotHeldInConstants() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(true)).loadClass("com.example.ShareableDefaults");
+
+        for (Field field : generatedType.getDeclaredFields()) {
+            assertThat(field.getName(), not(startsWith("INVALID_")));
+        }
+
+        Object instance = generatedType.newInstance();
+
+        assertThat(generatedType.getMethod("getInvalidUriWithDefault").invoke(instance), is(nullValue()));
+        assertThat(generatedType.getMethod("getInvalidRegexWithDefault").invoke(instance), is(nullValue()));
+    }
+
+    @Test
+    public void dateDefaultsAreCreatedForEachInstance() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(true)).loadClass("com.example.ShareableDefaults");
+
+        Object first = generatedType.newInstance();
+        Object second = generatedType.newInstance();
+
+        Date firstDate = (Date) generatedType.getMethod("getDateTimeWithDefault").invoke(first);
+        Date secondDate = (Date) generatedType.getMethod("getDateTimeWithDefault").invoke(second);
+
+        assertThat(firstDate, is(equalTo(secondDate)));
+        assertThat(firstDate, is(not(sameInstance(secondDate))));
+
+        firstDate.setTime(0L);
+        assertThat(((Date) generatedType.getMethod("getDateTimeWithDefault").invoke(generatedType.newInstance())).getTime(), is(1298539523112L));
+    }
+
+    @Test
+    public void lazyDateListDefaultsAreCreatedForEachInstance() throws Exception {
+        Map<String, Object> config = configWithJodaLocalTypes(true);
+        config.put("useLazyCollectionDefaults", true);
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                config).loadClass("com.example.ShareableDefaults");
+
+        List<?> first = (List<?>) generatedType.getMethod("getDateTimeArrayWithDefault").invoke(generatedType.newInstance());
+        List<?> second = (List<?>) generatedType.getMethod("getDateTimeArrayWithDefault").invoke(generatedType.newInstance());
+
+        assertThat(first.get(0), is(equalTo(second.get(0))));
+        assertThat(first.get(0), is(not(sameInstance(second.get(0)))));
+    }
+
+    @Test
+    public void jodaDateTimeDefaultsAreShared() throws Exception {
+        Class<?> generatedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                config("useStaticDefaultConstants", true, "useJodaDates", true)).loadClass("com.example.ShareableDefaults");
+
+        Object value = generatedType.getMethod("getDateTimeWithDefault").invoke(generatedType.newInstance());
+
+        assertThat(value, is(sameInstance(generatedType.getMethod("getDateTimeWithDefault").invoke(generatedType.newInstance()))));
+        assertThat(((org.joda.time.DateTime) value).getMillis(), is(1298539523112L));
+    }
+
+    @Test
+    public void defaultsAreUnchanged() throws Exception {
+        Class<?> sharedType = schemaRule.generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(true)).loadClass("com.example.ShareableDefaults");
+        Class<?> perInstanceType = generateAndCompile("/schema/default/shareableDefaults.json", "com.example",
+                configWithJodaLocalTypes(false)).loadClass("com.example.ShareableDefaults");
+
+        Object shared = sharedType.newInstance();
+        Object perInstance = perInstanceType.newInstance();
+
+        for (String property : SHARED_DEFAULTS) {
+            if (!property.equals("UriWithDefault") && !property.equals("RegexWithDefault")) {
+                assertThat(property, String.valueOf(sharedType.getMethod("get" + property).invoke(shared)),
+                        is(String.valueOf(perInstanceType.getMethod("get" + property).invoke(perInstance))));
+            }
+        }
+        assertThat(perInstanceType.getDeclaredFields().length, is(lessThan(sharedType.getDeclaredFields().length)));
+    }
+
+}
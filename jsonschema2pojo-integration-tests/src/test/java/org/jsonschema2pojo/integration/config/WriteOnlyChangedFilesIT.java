@@ -0,0 +1,103 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.config;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class WriteOnlyChangedFilesIT {
+
+    private static final long OLD_TIMESTAMP = 1000000000000L;
+
+    @Rule public TemporaryFolder schemaFolder = new TemporaryFolder();
+
+    private File sourceDirectory;
+    private File outputDirectory;
+
+    @Before
+    public void writeSchemas() throws IOException {
+        sourceDirectory = schemaFolder.newFolder("schema");
+        outputDirectory = createTemporaryOutputFolder();
+
+        write(new File(sourceDirectory, "parent.json"), "{\"type\" : \"object\", \"properties\" : {\"child\" : {\"$ref\" : \"child.json\"}}}", "UTF-8");
+        write(new File(sourceDirectory, "child.json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"type\" : \"string\"}}}", "UTF-8");
+    }
+
+    @Test
+    public void unchangedFilesAreNotRewritten() throws IOException {
+
+        regenerate(false);
+        File parentSource = new File(outputDirectory, "com/example/Parent.java");
+        File childSource = new File(outputDirectory, "com/example/Child.java");
+        assertThat(parentSource.setLastModified(OLD_TIMESTAMP), is(true));
+        assertThat(childSource.setLastModified(OLD_TIMESTAMP), is(true));
+
+        write(new File(sourceDirectory, "child.json"), "{\"type\" : \"object\", \"properties\" : {\"name\" : {\"type\" : \"string\"}, \"age\" : {\"type\" : \"integer\"}}}", "UTF-8");
+        regenerate(false);
+
+        assertThat(parentSource.lastModified(), is(OLD_TIMESTAMP));
+        assertThat(childSource.lastModified(), is(not(OLD_TIMESTAMP)));
+        assertThat(readFileToString(childSource), containsString("getAge"));
+
+    }
+
+    @Test
+    public void filesNoLongerGeneratedAreRemovedWithRemoveOldOutput() throws IOException {
+
+        regenerate(true);
+        File parentSource = new File(outputDirectory, "com/example/Parent.java");
+        assertThat(parentSource.setLastModified(OLD_TIMESTAMP), is(true));
+        File unrelatedFile = new File(outputDirectory, "com/other/Unrelated.java");
+        write(unrelatedFile, "class Unrelated {}", "UTF-8");
+
+        write(new File(sourceDirectory, "child.json"), "{\"type\" : \"string\"}", "UTF-8");
+        regenerate(true);
+
+        assertThat(parentSource.lastModified(), is(not(OLD_TIMESTAMP)));
+        assertThat(new File(outputDirectory, "com/example/Child.java").exists(), is(false));
+        assertThat(unrelatedFile.exists(), is(false));
+        assertThat(unrelatedFile.getParentFile().exists(), is(false));
+
+    }
+
+    @Test
+    public void filesNoLongerGeneratedAreKeptWithoutRemoveOldOutput() throws IOException {
+
+        regenerate(false);
+
+        write(new File(sourceDirectory, "child.json"), "{\"type\" : \"string\"}", "UTF-8");
+        regenerate(false);
+
+        assertThat(new File(outputDirectory, "com/example/Child.java").exists(), is(true));
+
+    }
+
+    private void regenerate(boolean removeOldOutput) throws IOException {
+        generate(sourceDirectory.toURI().toURL(), "com.example", config("writeOnlyChangedFiles", true, "removeOldOutput", removeOldOutput), outputDirectory);
+    }
+
+}
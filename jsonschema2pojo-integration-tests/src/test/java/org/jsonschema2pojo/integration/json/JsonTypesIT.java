@@ -25,7 +25,11 @@ import static org.junit.Assert.*;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Date;
 import java.util.List;
+import java.util.UUID;
 
 import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
 import org.junit.Rule;
@@ -141,4 +145,40 @@ public class JsonTypesIT {
 
     }
 
+    @Test
+    @SuppressWarnings("rawtypes")
+    public void newlineDelimitedExamplesAreMergedIntoOneType() throws Exception {
+
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/json/newlineDelimited.json", "com.example",
+                config("sourceType", "json"));
+
+        Class<?> generatedType = resultsClassLoader.loadClass("com.example.NewlineDelimited");
+
+        assertThat(generatedType.getMethod("getId").getReturnType(), is(equalTo((Object) Integer.class)));
+        assertThat(generatedType.getMethod("getName").getReturnType(), is(equalTo((Object) String.class)));
+        assertThat(((ParameterizedType) generatedType.getMethod("getValues").getGenericReturnType()).getActualTypeArguments()[0], is(equalTo((Type) Double.class)));
+
+    }
+
+    @Test
+    public void examplesCanProduceNarrowTypes() throws Exception {
+
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile("/json/narrowTypes.json", "com.example",
+                config("sourceType", "json", "inferExampleFormats", true, "maxExampleEnumValues", 5));
+
+        Class<?> generatedType = resultsClassLoader.loadClass("com.example.NarrowTypes");
+
+        assertThat(generatedType.getMethod("getId").getReturnType(), is(equalTo((Object) UUID.class)));
+        assertThat(generatedType.getMethod("getCreated").getReturnType(), is(equalTo((Object) Date.class)));
+        assertThat(generatedType.getMethod("getHomepage").getReturnType(), is(equalTo((Object) URI.class)));
+        assertThat(generatedType.getMethod("getStatus").getReturnType().isEnum(), is(true));
+        assertThat(generatedType.getMethod("getCount").getReturnType(), is(equalTo((Object) Long.class)));
+        assertThat(generatedType.getMethod("getTotal").getReturnType(), is(equalTo((Object) BigInteger.class)));
+
+        Object deserialisedValue = OBJECT_MAPPER.readValue(this.getClass().getResourceAsStream("/json/narrowTypes.json"), generatedType);
+        assertThat((Long) generatedType.getMethod("getCount").invoke(deserialisedValue), is(12345678901L));
+        assertThat(generatedType.getMethod("getStatus").invoke(deserialisedValue).toString(), is("active"));
+
+    }
+
 }
@@ -0,0 +1,114 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.ref;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.jsonschema2pojo.integration.util.CodeGenerationHelper.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsonschema2pojo.integration.util.Jsonschema2PojoRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Reads $ref documents from an embedded http server, caching them so that
+ * later (offline) runs don't need the server at all.
+ */
+public class HttpCacheIT {
+
+    @Rule public Jsonschema2PojoRule schemaRule = new Jsonschema2PojoRule();
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private HttpServer server;
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    private File schema;
+    private File cacheDirectory;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/schema/address.json", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                if ("\"address-v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                } else {
+                    downloads.incrementAndGet();
+                    byte[] body = "{\"type\" : \"object\", \"properties\" : {\"region\" : {\"type\" : \"string\"}}}".getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("ETag", "\"address-v1\"");
+                    exchange.sendResponseHeaders(200, body.length);
+                    OutputStream out = exchange.getResponseBody();
+                    out.write(body);
+                    out.close();
+                }
+                exchange.close();
+            }
+        });
+        server.start();
+
+        schema = new File(folder.newFolder("schema"), "person.json");
+        write(schema, "{\"type\" : \"object\", \"properties\" : {\"address\" : {\"$ref\" : \"http://localhost:" + server.getAddress().getPort() + "/schema/address.json\"}}}", "UTF-8");
+        cacheDirectory = folder.newFolder("cache");
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void cachedDocumentIsOnlyDownloadedOnce() throws IOException, ClassNotFoundException, NoSuchMethodException {
+
+        generate(schema.toURI().toURL(), "com.example", config("httpCacheDirectory", cacheDirectory));
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile(schema.toURI().toURL(), "com.example", config("httpCacheDirectory", cacheDirectory));
+
+        Class<?> addressClass = resultsClassLoader.loadClass("com.example.Person").getMethod("getAddress").getReturnType();
+        assertThat(addressClass.getName(), is("com.example.Address"));
+        assertThat(downloads.get(), is(1));
+
+    }
+
+    @Test
+    public void offlineGenerationUsesCachedDocument() throws IOException, ClassNotFoundException, NoSuchMethodException {
+
+        generate(schema.toURI().toURL(), "com.example", config("httpCacheDirectory", cacheDirectory));
+        server.stop(0);
+
+        ClassLoader resultsClassLoader = schemaRule.generateAndCompile(schema.toURI().toURL(), "com.example", config("httpCacheDirectory", cacheDirectory, "offline", true));
+
+        Class<?> addressClass = resultsClassLoader.loadClass("com.example.Person").getMethod("getAddress").getReturnType();
+        assertThat(addressClass.getMethod("getRegion"), is(notNullValue()));
+
+    }
+
+}
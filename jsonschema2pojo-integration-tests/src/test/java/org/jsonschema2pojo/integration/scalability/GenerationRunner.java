@@ -0,0 +1,95 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.scalability;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.jsonschema2pojo.DefaultGenerationConfig;
+import org.jsonschema2pojo.GenerationConfig;
+import org.jsonschema2pojo.Jsonschema2Pojo;
+
+/**
+ * Generates types for a directory of schemas, then prints the measurements
+ * taken during generation as a single line:
+ * <code>RESULT &lt;wall time millis&gt; &lt;peak heap bytes&gt; &lt;GC time millis&gt;</code>.
+ * <p>
+ * Run in a separate JVM by {@link ScalabilityIT}, so that each run starts
+ * with an empty heap of a fixed maximum size.
+ */
+public class GenerationRunner {
+
+    static final String RESULT_PREFIX = "RESULT ";
+
+    public static void main(String[] args) throws IOException {
+        final URL source = new File(args[0]).toURI().toURL();
+        final File targetDirectory = new File(args[1]);
+
+        GenerationConfig config = new DefaultGenerationConfig() {
+            @Override
+            public Iterator<URL> getSource() {
+                return Collections.singletonList(source).iterator();
+            }
+
+            @Override
+            public File getTargetDirectory() {
+                return targetDirectory;
+            }
+
+            @Override
+            public String getTargetPackage() {
+                return "com.example";
+            }
+        };
+
+        long start = System.nanoTime();
+        Jsonschema2Pojo.generate(config);
+        long wallTime = (System.nanoTime() - start) / 1000000;
+
+        System.out.println(RESULT_PREFIX + wallTime + " " + peakHeapUsed() + " " + gcTime());
+    }
+
+    /**
+     * The sum of the peak usage of each heap memory pool (which is an upper
+     * bound of the peak usage of the heap as a whole).
+     */
+    private static long peakHeapUsed() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+}
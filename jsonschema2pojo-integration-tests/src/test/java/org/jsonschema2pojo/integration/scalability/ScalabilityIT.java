@@ -0,0 +1,260 @@
+/**
+ * Copyright © 2010-2014 Nokia
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jsonschema2pojo.integration.scalability;
+
+import static org.apache.commons.io.FileUtils.*;
+import static org.apache.commons.lang.StringUtils.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Generates types for corpora of increasing size, each in a separate JVM with
+ * a constrained heap, and checks that generation time grows (close to)
+ * linearly with the number of schemas.
+ * <p>
+ * This test takes a long time, so it only runs when activated with
+ * <code>mvn verify -Pscalability</code>. The following system properties
+ * (set by the profile, and which can be overridden) configure it:
+ * <ul>
+ * <li><code>scalability.sizes</code>: the number of schemas in each corpus
+ * <li><code>scalability.maxHeap</code>: the maximum heap size for generation
+ * <li><code>scalability.maxExponent</code>: the highest acceptable exponent
+ * <i>k</i>, where generation time grows as <i>n<sup>k</sup></i> for
+ * <i>n</i> schemas
+ * <li><code>scalability.timeoutMinutes</code>: the time allowed for each
+ * corpus
+ * </ul>
+ * The measurements are written to
+ * <code>target/scalability-results.csv</code>.
+ */
+public class ScalabilityIT {
+
+    private static final int CLASHING_NAMES = 50;
+
+    private static final int DOCUMENTS_PER_SHARED_CLASH = 300;
+
+    private static final int REFERENCE_CHAIN_LENGTH = 1000;
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void generationTimeScalesLinearly() throws IOException, InterruptedException {
+
+        String sizesProperty = System.getProperty("scalability.sizes");
+        assumeThat("Scalability tests are only run with -Pscalability", sizesProperty, is(notNullValue()));
+
+        String maxHeap = System.getProperty("scalability.maxHeap", "4g");
+        double maxExponent = Double.parseDouble(System.getProperty("scalability.maxExponent", "1.3"));
+        long timeoutMillis = Long.parseLong(System.getProperty("scalability.timeoutMinutes", "60")) * 60 * 1000;
+
+        List<Measurement> measurements = new ArrayList<Measurement>();
+        List<String> report = new ArrayList<String>();
+        report.add("schemas,wallTimeMillis,peakHeapBytes,gcTimeMillis");
+
+        for (String size : split(sizesProperty, ", ")) {
+            int schemas = Integer.parseInt(size);
+
+            File corpus = folder.newFolder("corpus-" + schemas);
+            writeCorpus(corpus, schemas);
+
+            Measurement measurement = generate(corpus, folder.newFolder("output-" + schemas), maxHeap, timeoutMillis);
+            measurement.schemas = schemas;
+            measurements.add(measurement);
+
+            report.add(schemas + "," + measurement.wallTime + "," + measurement.peakHeap + "," + measurement.gcTime);
+            writeLines(new File("target/scalability-results.csv"), report);
+
+            deleteDirectory(corpus);
+        }
+
+        double exponent = exponent(measurements);
+        report.add("# time exponent: " + exponent);
+        writeLines(new File("target/scalability-results.csv"), report);
+
+        assertThat("Generation time grows as n^" + exponent + " (see target/scalability-results.csv)", exponent, is(lessThanOrEqualTo(maxExponent)));
+
+    }
+
+    @Test
+    @Ignore("references are generated recursively, so a chain of ~1000 documents overflows the stack")
+    public void longReferenceChainIsGenerated() throws IOException, InterruptedException {
+
+        String maxHeap = System.getProperty("scalability.maxHeap", "4g");
+        long timeoutMillis = Long.parseLong(System.getProperty("scalability.timeoutMinutes", "60")) * 60 * 1000;
+
+        File corpus = folder.newFolder("chain");
+        for (int i = 0; i < REFERENCE_CHAIN_LENGTH; i++) {
+            String next = i + 1 < REFERENCE_CHAIN_LENGTH ? ", \"next\" : {\"$ref\" : \"link" + (i + 1) + ".json\"}" : "";
+            write(new File(corpus, "link" + i + ".json"),
+                    "{\"type\" : \"object\", \"properties\" : {\"id\" : {\"type\" : \"string\"}" + next + "}}", "UTF-8");
+        }
+
+        generate(corpus, folder.newFolder("output-chain"), maxHeap, timeoutMillis);
+
+    }
+
+    /**
+     * Writes a corpus of schemas with the features that have caused
+     * super-linear behaviour in the past: references between documents,
+     * top-level enums, and types whose names clash across documents. The
+     * object documents form groups of {@value #CLASHING_NAMES}, as each clash
+     * makes a longer class name. One property name is also repeated in every
+     * {@value #DOCUMENTS_PER_SHARED_CLASH}th document, so the number of clashes
+     * on that name grows with the corpus (while staying below the file name
+     * length limit for the default sizes).
+     */
+    private static void writeCorpus(File directory, int size) throws IOException {
+        Random random = new Random(size);
+
+        int enums = Math.max(size / 10, 1);
+        int objects = size - enums;
+
+        for (int i = 0; i < enums; i++) {
+            write(new File(directory, "status" + i + ".json"),
+                    "{\"type\" : \"string\", \"enum\" : [\"active\", \"inactive\", \"state" + i + "\"]}", "UTF-8");
+        }
+
+        for (int i = 0; i < objects; i++) {
+            // referenced documents are named after the property that first
+            // refers to them, and are generated recursively, so references
+            // stay within a group
+            int group = i / CLASHING_NAMES;
+
+            StringBuilder schema = new StringBuilder()
+                    .append("{\"type\" : \"object\", \"properties\" : {")
+                    .append("\"id\" : {\"type\" : \"string\"},")
+                    .append("\"name\" : {\"type\" : \"string\"},")
+                    .append("\"count\" : {\"type\" : \"integer\"},")
+                    .append(i % DOCUMENTS_PER_SHARED_CLASH == 0 ? "\"shared\" : {\"type\" : \"object\", \"properties\" : {\"id\" : {\"type\" : \"string\"}}}," : "")
+                    .append("\"status\" : {\"$ref\" : \"status").append(i % enums).append(".json\"},")
+                    .append("\"metadata").append(group).append("\" : {\"type\" : \"object\", \"properties\" : {\"created\" : {\"type\" : \"string\", \"format\" : \"date-time\"}}},")
+                    .append("\"next").append(group).append("\" : {\"$ref\" : \"type").append(inGroup(group, (i + 1) % CLASHING_NAMES, objects)).append(".json\"},")
+                    .append("\"related").append(group).append("\" : {\"type\" : \"array\", \"items\" : {\"$ref\" : \"type").append(inGroup(group, random.nextInt(CLASHING_NAMES), objects)).append(".json\"}}")
+                    .append("}}");
+
+            write(new File(directory, "type" + i + ".json"), schema, "UTF-8");
+        }
+    }
+
+    private static int inGroup(int group, int offset, int objects) {
+        return Math.min(group * CLASHING_NAMES + offset, objects - 1);
+    }
+
+    private static Measurement generate(File corpus, File output, String maxHeap, long timeoutMillis) throws IOException, InterruptedException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+
+        final Process process = new ProcessBuilder(java, "-Xmx" + maxHeap,
+                "-cp", System.getProperty("java.class.path"),
+                GenerationRunner.class.getName(), corpus.getAbsolutePath(), output.getAbsolutePath())
+                .redirectErrorStream(true)
+                .start();
+
+        final List<String> lines = new ArrayList<String>();
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), "UTF-8"));
+                    for (String line = output.readLine(); line != null; line = output.readLine()) {
+                        synchronized (lines) {
+                            lines.add(line);
+                        }
+                    }
+                } catch (IOException e) {
+                    // the process has been destroyed
+                }
+            }
+        };
+        reader.start();
+
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (isAlive(process)) {
+            if (System.currentTimeMillis() > deadline) {
+                process.destroy();
+                fail("Generation of " + corpus.getName() + " took longer than " + timeoutMillis / 60000 + " minutes");
+            }
+            Thread.sleep(100);
+        }
+        reader.join();
+
+        synchronized (lines) {
+            for (String line : lines) {
+                if (line.startsWith(GenerationRunner.RESULT_PREFIX)) {
+                    String[] values = split(removeStart(line, GenerationRunner.RESULT_PREFIX), ' ');
+                    Measurement measurement = new Measurement();
+                    measurement.wallTime = Long.parseLong(values[0]);
+                    measurement.peakHeap = Long.parseLong(values[1]);
+                    measurement.gcTime = Long.parseLong(values[2]);
+                    return measurement;
+                }
+            }
+
+            throw new AssertionError("Generation of " + corpus.getName() + " with -Xmx" + maxHeap + " failed:\n" + join(lines, "\n"));
+        }
+    }
+
+    private static boolean isAlive(Process process) {
+        try {
+            process.exitValue();
+            return false;
+        } catch (IllegalThreadStateException e) {
+            return true;
+        }
+    }
+
+    /**
+     * The slope of the least squares fit of log(time) against log(size).
+     */
+    private static double exponent(List<Measurement> measurements) {
+        assertThat("At least two sizes are needed to find how generation time grows", measurements.size(), is(greaterThanOrEqualTo(2)));
+
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        for (Measurement measurement : measurements) {
+            double x = Math.log(measurement.schemas);
+            double y = Math.log(Math.max(measurement.wallTime, 1));
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+        }
+
+        int n = measurements.size();
+        return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+    }
+
+    private static class Measurement {
+        int schemas;
+        long wallTime;
+        long peakHeap;
+        long gcTime;
+    }
+
+}
@@ -514,6 +514,234 @@ public class Jsonschema2PojoMojo extends AbstractMojo implements GenerationConfi
      */
     private boolean includeDynamicAccessors = false;
 
+    /**
+     * The number of worker threads that should be used to read and parse
+     * source documents concurrently before types are generated. Types are
+     * always generated in the same order, so the output is identical for any
+     * value. A value of <code>1</code> causes all source documents to be
+     * processed sequentially.
+     *
+     * @parameter expression="${jsonschema2pojo.parallelism}"
+     *            default-value="1"
+     * @since 0.4.24
+     */
+    private int parallelism = 1;
+
+    /**
+     * Whether to skip generation when nothing has changed since the last run. A
+     * manifest holding a hash of every document read (including documents
+     * referenced using $ref), the effective configuration and the generator
+     * version is written to the target directory, and later runs do nothing if
+     * all of these are unchanged.
+     *
+     * @parameter expression="${jsonschema2pojo.incremental}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean incremental = false;
+
+    /**
+     * Whether to write only those generated files whose content differs from
+     * the file already in the target directory, so that unchanged files keep
+     * their modification time and are not recompiled. When combined with
+     * removeOldOutput, files that are no longer generated are removed after
+     * generation, instead of clearing the target directory beforehand.
+     *
+     * @parameter expression="${jsonschema2pojo.writeOnlyChangedFiles}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean writeOnlyChangedFiles = false;
+
+    /**
+     * The maximum number of schema documents whose parsed content is held in
+     * memory during generation. When more documents have been read, the content
+     * of the oldest documents whose types have all been generated is released
+     * (and read again if needed). A value of 0 means no limit.
+     *
+     * @parameter expression="${jsonschema2pojo.maxCachedDocuments}"
+     *            default-value="0"
+     * @since 0.4.24
+     */
+    private int maxCachedDocuments = 0;
+
+    /**
+     * The directory in which documents read using http or https (for instance,
+     * using $ref) are cached between runs. A cached document is revalidated
+     * using its ETag or Last-Modified date, so it is only downloaded again if
+     * it has changed. When not set, remote documents are not cached.
+     *
+     * @parameter expression="${jsonschema2pojo.httpCacheDirectory}"
+     * @since 0.4.24
+     */
+    private File httpCacheDirectory = null;
+
+    /**
+     * Whether documents that would be read using http or https must instead be
+     * taken from the httpCacheDirectory. When enabled, no network requests are
+     * made and generation fails if a remote document has not been cached. By
+     * default, this follows Maven's own offline setting.
+     *
+     * @parameter expression="${jsonschema2pojo.offline}"
+     *            default-value="${settings.offline}"
+     * @since 0.4.24
+     */
+    private boolean offline = false;
+
+    /**
+     * The timeout, in milliseconds, for connecting to a server and for reading
+     * a document using http or https. A value of 0 means that no timeout is
+     * applied.
+     *
+     * @parameter expression="${jsonschema2pojo.httpTimeout}"
+     *            default-value="0"
+     * @since 0.4.24
+     */
+    private int httpTimeout = 0;
+
+    /**
+     * Whether every document referenced (directly or indirectly) by the source
+     * schemas, using $ref or extends, should be read and parsed before types
+     * are generated. Documents are read concurrently, using the number of
+     * threads given by the parallelism option, so that file and network latency
+     * don't add up while types are generated.
+     *
+     * @parameter expression="${jsonschema2pojo.prefetchReferences}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean prefetchReferences = false;
+
+    /**
+     * The number of items of each array in a JSON example (sourceType json)
+     * that are always used to infer the type of its items. Later items are used
+     * with decreasing probability, as in reservoir sampling, so that very large
+     * arrays are not read in full. A value of zero or less means every item is
+     * used.
+     *
+     * @parameter expression="${jsonschema2pojo.exampleArraySampleSize}"
+     *            default-value="0"
+     * @since 0.4.24
+     */
+    private int exampleArraySampleSize = 0;
+
+    /**
+     * Whether string properties of JSON examples (sourceType json) whose values
+     * all look like a date-time, date, uuid or absolute uri should be given the
+     * matching format, so that a narrower Java type is generated.
+     *
+     * @parameter expression="${jsonschema2pojo.inferExampleFormats}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean inferExampleFormats = false;
+
+    /**
+     * The largest number of distinct values a string property of JSON examples
+     * (sourceType json) may have for it to be generated as an enum. Values must
+     * also repeat, each being seen at least twice on average. Zero disables
+     * enum inference.
+     *
+     * @parameter expression="${jsonschema2pojo.maxExampleEnumValues}"
+     *            default-value="0"
+     * @since 0.4.24
+     */
+    private int maxExampleEnumValues = 0;
+
+    /**
+     * Whether generated hashCode and equals methods (see
+     * includeHashcodeAndEquals) should compare and hash each field directly
+     * instead of using the commons-lang HashCodeBuilder and EqualsBuilder, so
+     * that no helper objects are allocated and no primitives are boxed. Hash
+     * codes are the same as those produced by HashCodeBuilder.
+     *
+     * @parameter expression="${jsonschema2pojo.useFieldwiseHashcodeAndEquals}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useFieldwiseHashcodeAndEquals = false;
+
+    /**
+     * Whether generated toString methods should append each field to a
+     * StringBuilder directly, instead of calling
+     * ToStringBuilder.reflectionToString. The output has the same format, but
+     * no reflection is needed when toString is called.
+     *
+     * @parameter expression="${jsonschema2pojo.useFieldwiseToString}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useFieldwiseToString = false;
+
+    /**
+     * Whether generated enums should look up constants using a switch on the
+     * hash code of the value (or, for very large enums, a map that is only
+     * created on first use) instead of a map that is filled when the enum is
+     * loaded. A tryFromValue method, which returns null instead of throwing
+     * IllegalArgumentException for an unknown value, is also generated.
+     *
+     * @parameter expression="${jsonschema2pojo.useEnumSwitchLookup}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useEnumSwitchLookup = false;
+
+    /**
+     * Whether dynamic accessors should be backed by a property index: each
+     * class numbers every property it declares or inherits, and gets
+     * propertyIndex, propertyName, getByIndex, setByIndex and forEachProperty
+     * methods. Lookups by name then take the same time at any depth of
+     * inheritance. Only used when includeDynamicAccessors and includeAccessors
+     * are both true.
+     *
+     * @parameter expression="${jsonschema2pojo.useIndexedDynamicAccessors}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useIndexedDynamicAccessors = false;
+
+    /**
+     * Whether the map that holds additional properties should be created
+     * lazily. Until a property is added, getAdditionalProperties returns a
+     * shared, empty (read-only) map; a single property is held in a singleton
+     * map, and a HashMap is only created for the second. The map returned by
+     * getAdditionalProperties should be treated as read-only; use
+     * setAdditionalProperty to add properties.
+     *
+     * @parameter expression="${jsonschema2pojo.useLazyAdditionalProperties}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useLazyAdditionalProperties = false;
+
+    /**
+     * Whether List and Set properties should start out referring to a shared
+     * default (an empty collection, or a static copy of the schema default)
+     * that is only copied into a new collection by the property's getter,
+     * instead of allocating a collection for every new instance. Only used when
+     * includeAccessors is true and parcelable is false. As getters then assign
+     * the field, they are no longer safe to call concurrently on a shared
+     * instance.
+     *
+     * @parameter expression="${jsonschema2pojo.useLazyCollectionDefaults}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useLazyCollectionDefaults = false;
+
+    /**
+     * Whether schema defaults of immutable types (BigDecimal, URI, Pattern,
+     * boxed numbers, enums and Joda date/time types) should be created once, in
+     * a private static final constant, and assigned to each new instance by
+     * reference. Mutable defaults such as java.util.Date are still created per
+     * instance.
+     *
+     * @parameter expression="${jsonschema2pojo.useStaticDefaultConstants}"
+     *            default-value="false"
+     * @since 0.4.24
+     */
+    private boolean useStaticDefaultConstants = false;
+
     /**
      * The project being built.
      *
@@ -839,4 +1067,94 @@ public class Jsonschema2PojoMojo extends AbstractMojo implements GenerationConfi
     public boolean isUseBigDecimals() {
         return useBigDecimals;
     }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public boolean isWriteOnlyChangedFiles() {
+        return writeOnlyChangedFiles;
+    }
+
+    @Override
+    public int getMaxCachedDocuments() {
+        return maxCachedDocuments;
+    }
+
+    @Override
+    public File getHttpCacheDirectory() {
+        return httpCacheDirectory;
+    }
+
+    @Override
+    public boolean isOffline() {
+        return offline;
+    }
+
+    @Override
+    public int getHttpTimeout() {
+        return httpTimeout;
+    }
+
+    @Override
+    public boolean isPrefetchReferences() {
+        return prefetchReferences;
+    }
+
+    @Override
+    public int getExampleArraySampleSize() {
+        return exampleArraySampleSize;
+    }
+
+    @Override
+    public boolean isInferExampleFormats() {
+        return inferExampleFormats;
+    }
+
+    @Override
+    public int getMaxExampleEnumValues() {
+        return maxExampleEnumValues;
+    }
+
+    @Override
+    public boolean isUseFieldwiseHashcodeAndEquals() {
+        return useFieldwiseHashcodeAndEquals;
+    }
+
+    @Override
+    public boolean isUseFieldwiseToString() {
+        return useFieldwiseToString;
+    }
+
+    @Override
+    public boolean isUseEnumSwitchLookup() {
+        return useEnumSwitchLookup;
+    }
+
+    @Override
+    public boolean isUseIndexedDynamicAccessors() {
+        return useIndexedDynamicAccessors;
+    }
+
+    @Override
+    public boolean isUseLazyAdditionalProperties() {
+        return useLazyAdditionalProperties;
+    }
+
+    @Override
+    public boolean isUseLazyCollectionDefaults() {
+        return useLazyCollectionDefaults;
+    }
+
+    @Override
+    public boolean isUseStaticDefaultConstants() {
+        return useStaticDefaultConstants;
+    }
 }